@@ -0,0 +1,51 @@
+package com.pushtorefresh.storio.internal;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import rx.Observable;
+import rx.Scheduler;
+
+/**
+ * Helpers for applying optional {@link Scheduler}s to Observables of operations.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ * <p>
+ * For internal usage only!
+ */
+public final class RxJavaUtils {
+
+    private RxJavaUtils() {
+        throw new IllegalStateException("No instances please");
+    }
+
+    /**
+     * Subscribes {@link Observable} on the {@link Scheduler} if it's specified.
+     *
+     * @param scheduler  scheduler or {@code null} to subscribe on the thread of subscriber.
+     * @param observable observable.
+     * @param <T>        type of items.
+     * @return observable subscribed on the scheduler or passed observable.
+     */
+    @NonNull
+    public static <T> Observable<T> subscribeOn(@Nullable Scheduler scheduler, @NonNull Observable<T> observable) {
+        return scheduler != null
+                ? observable.subscribeOn(scheduler)
+                : observable;
+    }
+
+    /**
+     * Moves emissions of {@link Observable} to the {@link Scheduler} if it's specified.
+     *
+     * @param scheduler  scheduler or {@code null} to keep emissions on the thread of producer.
+     * @param observable observable.
+     * @param <T>        type of items.
+     * @return observable observed on the scheduler or passed observable.
+     */
+    @NonNull
+    public static <T> Observable<T> observeOn(@Nullable Scheduler scheduler, @NonNull Observable<T> observable) {
+        return scheduler != null
+                ? observable.observeOn(scheduler)
+                : observable;
+    }
+}
@@ -10,7 +10,7 @@ import java.util.Map;
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 
 /**
- * Immutable container for results of {@link PreparedGroupOperation}
+ * Immutable container for results of Group Operation
  * Thread-safe
  * <p>
  * Unfortunately, we can not generify it because each Operation can return different type of result
@@ -33,10 +33,10 @@ public final class GroupOperationResults {
      * Creates new instance of {@link GroupOperationResults}
      *
      * @param results non-null map of pairs (operation, resultOfOperation)
-     * @return immutable container for results of {@link PreparedGroupOperation}
+     * @return immutable container for results of Group Operation
      */
     @NonNull
-    static GroupOperationResults newInstance(@NonNull Map<PreparedOperation<?>, Object> results) {
+    public static GroupOperationResults newInstance(@NonNull Map<PreparedOperation<?>, Object> results) {
         checkNotNull(results, "Please specify results of Group Operation");
         return new GroupOperationResults(results);
     }
@@ -0,0 +1,39 @@
+package com.pushtorefresh.storio.internal;
+
+import com.pushtorefresh.private_constructor_checker.PrivateConstructorChecker;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class RxJavaUtilsTest {
+
+    @Test
+    public void constructorShouldBePrivateAndThrowException() {
+        PrivateConstructorChecker
+                .forClass(RxJavaUtils.class)
+                .expectedTypeOfException(IllegalStateException.class)
+                .expectedExceptionMessage("No instances please")
+                .check();
+    }
+
+    @Test
+    public void shouldNotChangeObservableWithoutScheduler() {
+        final Observable<String> observable = Observable.just("test");
+
+        assertSame(observable, RxJavaUtils.subscribeOn(null, observable));
+        assertSame(observable, RxJavaUtils.observeOn(null, observable));
+    }
+
+    @Test
+    public void shouldApplyScheduler() {
+        final Observable<String> observable = Observable.just("test");
+
+        assertNotSame(observable, RxJavaUtils.subscribeOn(Schedulers.immediate(), observable));
+        assertNotSame(observable, RxJavaUtils.observeOn(Schedulers.immediate(), observable));
+    }
+}
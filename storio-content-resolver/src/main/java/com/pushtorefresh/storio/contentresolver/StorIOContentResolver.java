@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.Set;
 
 import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
 
 /**
  * Powerful abstraction over {@link android.content.ContentResolver}.
@@ -84,6 +86,18 @@ public abstract class StorIOContentResolver {
         return observeChangesOfUris(Collections.singleton(uri));
     }
 
+    /**
+     * Gets {@link Scheduler} on which Observables of operations are subscribed.
+     * <p>
+     * Default implementation returns {@link Schedulers#io()}.
+     *
+     * @return scheduler for operations or {@code null} to execute operations on the thread of subscriber.
+     */
+    @Nullable
+    public Scheduler defaultScheduler() {
+        return Schedulers.io();
+    }
+
     /**
      * Hides some internal operations of {@link StorIOContentResolver}
      * to make API of {@link StorIOContentResolver} clean and easy to understand.
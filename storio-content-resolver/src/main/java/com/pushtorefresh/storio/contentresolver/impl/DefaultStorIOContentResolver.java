@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import rx.Observable;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
@@ -46,9 +47,28 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
     @NonNull
     private final Handler contentObserverHandler;
 
+    @Nullable
+    private final Scheduler defaultScheduler;
+
+    /**
+     * {@code false} if {@link StorIOContentResolver#defaultScheduler()} should be used.
+     */
+    private final boolean defaultSchedulerSpecified;
+
     protected DefaultStorIOContentResolver(@NonNull ContentResolver contentResolver, @Nullable Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping) {
-        this.contentResolver = contentResolver;
-        internal = new InternalImpl(typesMapping);
+        this(new CompleteBuilder(contentResolver, typesMapping));
+    }
+
+    /**
+     * Creates {@link DefaultStorIOContentResolver} with all params of the builder.
+     *
+     * @param builder builder with params.
+     */
+    protected DefaultStorIOContentResolver(@NonNull CompleteBuilder builder) {
+        contentResolver = builder.contentResolver;
+        defaultScheduler = builder.defaultScheduler;
+        defaultSchedulerSpecified = builder.defaultSchedulerSpecified;
+        internal = new InternalImpl(builder.typesMapping);
 
         final HandlerThread handlerThread = new HandlerThread("StorIOContentResolverNotificationsThread");
         handlerThread.start(); // multithreading: don't block me, bro!
@@ -70,6 +90,20 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         return RxChangesObserver.observeChanges(contentResolver, uris, contentObserverHandler);
     }
 
+    /**
+     * Gets {@link Scheduler} for operations: {@link rx.schedulers.Schedulers#io()}
+     * or scheduler specified via {@link CompleteBuilder#defaultScheduler(Scheduler)}.
+     *
+     * @return scheduler for operations or {@code null} if operations should not be scheduled.
+     */
+    @Nullable
+    @Override
+    public Scheduler defaultScheduler() {
+        return defaultSchedulerSpecified
+                ? defaultScheduler
+                : super.defaultScheduler();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -123,14 +157,25 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
     public static final class CompleteBuilder {
 
         @NonNull
-        private final ContentResolver contentResolver;
+        final ContentResolver contentResolver;
 
-        private Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping;
+        @Nullable
+        Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping;
+
+        @Nullable
+        Scheduler defaultScheduler;
+
+        boolean defaultSchedulerSpecified;
 
         CompleteBuilder(@NonNull ContentResolver contentResolver) {
             this.contentResolver = contentResolver;
         }
 
+        CompleteBuilder(@NonNull ContentResolver contentResolver, @Nullable Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping) {
+            this.contentResolver = contentResolver;
+            this.typesMapping = typesMapping;
+        }
+
         /**
          * Adds {@link ContentResolverTypeMapping} for some type.
          *
@@ -153,6 +198,23 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
             return this;
         }
 
+        /**
+         * Optional: Specifies {@link Scheduler} for Observables of all operations.
+         * <p>
+         * Scheduler can be overridden for particular operation via {@code createObservable(Scheduler)}.
+         * By default, operations are executed on {@link rx.schedulers.Schedulers#io()}.
+         *
+         * @param defaultScheduler scheduler for operations or {@code null} to execute
+         *                         operations on the thread of subscriber.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder defaultScheduler(@Nullable Scheduler defaultScheduler) {
+            this.defaultScheduler = defaultScheduler;
+            defaultSchedulerSpecified = true;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link DefaultStorIOContentResolver}.
          *
@@ -160,7 +222,7 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
          */
         @NonNull
         public DefaultStorIOContentResolver build() {
-            return new DefaultStorIOContentResolver(contentResolver, typesMapping);
+            return new DefaultStorIOContentResolver(this);
         }
     }
 
@@ -17,9 +17,10 @@ import java.util.List;
 import java.util.Map;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Delete Operation for {@link StorIOContentResolver}.
@@ -116,7 +117,7 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOContentResolver#defaultScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation.
@@ -127,9 +128,26 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
     public Observable<DeleteResults<T>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOContentResolver.defaultScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOContentResolver#defaultScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<DeleteResults<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable
+                        .create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
@@ -10,10 +10,11 @@ import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Delete Operation for
@@ -82,7 +83,7 @@ public final class PreparedDeleteObject<T> extends PreparedDelete<DeleteResult>
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOContentResolver#defaultScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation.
@@ -93,9 +94,26 @@ public final class PreparedDeleteObject<T> extends PreparedDelete<DeleteResult>
     public Observable<DeleteResult> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOContentResolver.defaultScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOContentResolver#defaultScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<DeleteResult> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable
+                        .create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
@@ -12,10 +12,11 @@ import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlock
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Represents Get Operation for {@link StorIOContentResolver}
@@ -66,7 +67,7 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
      * other emissions will occur only if changes of {@link #query} Uri will occur.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOContentResolver#defaultScheduler()}.</dd>
      * </dl>
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
@@ -80,11 +81,28 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
     public Observable<Cursor> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return storIOContentResolver
-                .observeChangesOfUri(query.uri()) // each change triggers executeAsBlocking
-                .map(MapSomethingToExecuteAsBlocking.newInstance(this))
-                .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOContentResolver.defaultScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOContentResolver#defaultScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null
+     * list with mapped results and will be subscribed to changes of {@link #query} Uri.
+     */
+    @NonNull
+    public Observable<Cursor> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                storIOContentResolver
+                        .observeChangesOfUri(query.uri()) // each change triggers executeAsBlocking
+                        .map(MapSomethingToExecuteAsBlocking.newInstance(this))
+                        .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
+        );
     }
 
     /**
@@ -16,10 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 import static java.util.Collections.EMPTY_LIST;
 import static java.util.Collections.unmodifiableList;
 
@@ -115,7 +116,7 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOContentResolver#defaultScheduler()}.</dd>
      * </dl>
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable}
@@ -130,11 +131,29 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
     public Observable<List<T>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return storIOContentResolver
-                .observeChangesOfUri(query.uri()) // each change triggers executeAsBlocking
-                .map(MapSomethingToExecuteAsBlocking.newInstance(this))
-                .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOContentResolver.defaultScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOContentResolver#defaultScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null, immutable
+     * {@link List} with mapped results and will be subscribed to changes of {@link #query} Uri,
+     * list can be empty.
+     */
+    @NonNull
+    public Observable<List<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                storIOContentResolver
+                        .observeChangesOfUri(query.uri()) // each change triggers executeAsBlocking
+                        .map(MapSomethingToExecuteAsBlocking.newInstance(this))
+                        .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
+        );
     }
 
     /**
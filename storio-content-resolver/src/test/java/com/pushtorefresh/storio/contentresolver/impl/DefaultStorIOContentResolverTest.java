@@ -12,6 +12,9 @@ import com.pushtorefresh.storio.contentresolver.queries.Query;
 
 import org.junit.Test;
 
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -283,4 +286,35 @@ public class DefaultStorIOContentResolverTest {
             assertEquals("Cursor returned by content provider is null", expected.getMessage());
         }
     }
+
+    @Test
+    public void defaultSchedulerShouldBeIoSchedulerByDefault() {
+        final StorIOContentResolver storIOContentResolver = DefaultStorIOContentResolver.builder()
+                .contentResolver(mock(ContentResolver.class))
+                .build();
+
+        assertSame(Schedulers.io(), storIOContentResolver.defaultScheduler());
+    }
+
+    @Test
+    public void shouldUseSpecifiedDefaultScheduler() {
+        final Scheduler scheduler = mock(Scheduler.class);
+
+        final StorIOContentResolver storIOContentResolver = DefaultStorIOContentResolver.builder()
+                .contentResolver(mock(ContentResolver.class))
+                .defaultScheduler(scheduler)
+                .build();
+
+        assertSame(scheduler, storIOContentResolver.defaultScheduler());
+    }
+
+    @Test
+    public void nullDefaultSchedulerShouldDisableScheduling() {
+        final StorIOContentResolver storIOContentResolver = DefaultStorIOContentResolver.builder()
+                .contentResolver(mock(ContentResolver.class))
+                .defaultScheduler(null)
+                .build();
+
+        assertNull(storIOContentResolver.defaultScheduler());
+    }
 }
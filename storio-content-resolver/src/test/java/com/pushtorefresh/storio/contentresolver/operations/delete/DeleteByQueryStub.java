@@ -81,6 +81,7 @@ class DeleteByQueryStub {
                 .testAction(new Action1<DeleteResult>() {
                     @Override
                     public void call(DeleteResult deleteResult) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehavior(deleteResult);
                     }
                 })
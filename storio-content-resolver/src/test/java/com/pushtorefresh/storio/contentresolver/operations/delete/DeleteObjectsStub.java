@@ -144,6 +144,7 @@ class DeleteObjectsStub {
                 .testAction(new Action1<DeleteResults<TestItem>>() {
                     @Override
                     public void call(DeleteResults<TestItem> deleteResults) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForDeleteMultipleObjects(deleteResults);
                     }
                 })
@@ -163,6 +164,7 @@ class DeleteObjectsStub {
                 .testAction(new Action1<DeleteResult>() {
                     @Override
                     public void call(DeleteResult deleteResult) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForDeleteOneObject(deleteResult);
                     }
                 })
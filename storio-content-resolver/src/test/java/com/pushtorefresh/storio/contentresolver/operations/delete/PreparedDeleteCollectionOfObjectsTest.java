@@ -143,6 +143,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOContentResolver).defaultScheduler();
             verify(storIOContentResolver).delete();
             verify(storIOContentResolver).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -136,6 +136,7 @@ public class PreparedDeleteObjectTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOContentResolver).defaultScheduler();
             verify(storIOContentResolver).delete();
             verify(storIOContentResolver).internal();
             verify(internal).typeMapping(TestItem.class);
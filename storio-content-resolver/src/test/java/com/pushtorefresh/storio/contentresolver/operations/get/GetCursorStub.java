@@ -84,6 +84,7 @@ class GetCursorStub {
                 .testAction(new Action1<Cursor>() {
                     @Override
                     public void call(Cursor cursor) {
+                        verify(storIOContentResolver).defaultScheduler();
                         // Get Operation should be subscribed to changes of Uri
                         verify(storIOContentResolver).observeChangesOfUri(query.uri());
 
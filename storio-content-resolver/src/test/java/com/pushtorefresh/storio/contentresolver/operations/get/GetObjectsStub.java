@@ -175,6 +175,7 @@ class GetObjectsStub {
                 .testAction(new Action1<List<TestItem>>() {
                     @Override
                     public void call(List<TestItem> testItems) {
+                        verify(storIOContentResolver).defaultScheduler();
                         // Get Operation should be subscribed to changes of Uri!
                         verify(storIOContentResolver).observeChangesOfUri(query.uri());
 
@@ -154,6 +154,7 @@ public class PreparedGetListOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOContentResolver).defaultScheduler();
             verify(storIOContentResolver).get();
             verify(storIOContentResolver).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -147,6 +147,7 @@ public class PreparedPutCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOContentResolver).defaultScheduler();
             verify(storIOContentResolver).put();
             verify(storIOContentResolver).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -105,6 +105,7 @@ class PutContentValuesStub {
                 .testAction(new Action1<PutResults<ContentValues>>() {
                     @Override
                     public void call(PutResults<ContentValues> putResults) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForMultipleContentValues(putResults);
                     }
                 })
@@ -124,6 +125,7 @@ class PutContentValuesStub {
                 .testAction(new Action1<PutResult>() {
                     @Override
                     public void call(PutResult putResult) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForOneContentValues(putResult);
                     }
                 })
@@ -146,6 +146,7 @@ class PutObjectsStub {
                 .testAction(new Action1<PutResults<TestItem>>() {
                     @Override
                     public void call(PutResults<TestItem> putResults) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForMultipleObjects(putResults);
                     }
                 })
@@ -165,6 +166,7 @@ class PutObjectsStub {
                 .testAction(new Action1<PutResult>() {
                     @Override
                     public void call(PutResult putResult) {
+                        verify(storIOContentResolver).defaultScheduler();
                         verifyBehaviorForOneObject(putResult);
                     }
                 })
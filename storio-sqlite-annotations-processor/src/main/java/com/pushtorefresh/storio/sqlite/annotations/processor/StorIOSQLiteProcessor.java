@@ -6,6 +6,7 @@ import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.generate.DeleteResolverGenerator;
 import com.pushtorefresh.storio.sqlite.annotations.processor.generate.GetResolverGenerator;
 import com.pushtorefresh.storio.sqlite.annotations.processor.generate.PutResolverGenerator;
+import com.pushtorefresh.storio.sqlite.annotations.processor.generate.TypeMappingGenerator;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
@@ -314,11 +315,13 @@ public class StorIOSQLiteProcessor extends AbstractProcessor {
             final PutResolverGenerator putResolverGenerator = new PutResolverGenerator();
             final GetResolverGenerator getResolverGenerator = new GetResolverGenerator();
             final DeleteResolverGenerator deleteResolverGenerator = new DeleteResolverGenerator();
+            final TypeMappingGenerator typeMappingGenerator = new TypeMappingGenerator();
 
             for (StorIOSQLiteTypeMeta storIOSQLiteTypeMeta : annotatedClasses.values()) {
                 putResolverGenerator.generateJavaFile(storIOSQLiteTypeMeta).writeTo(filer);
                 getResolverGenerator.generateJavaFile(storIOSQLiteTypeMeta).writeTo(filer);
                 deleteResolverGenerator.generateJavaFile(storIOSQLiteTypeMeta).writeTo(filer);
+                typeMappingGenerator.generateJavaFile(storIOSQLiteTypeMeta).writeTo(filer);
             }
         } catch (ProcessingException e) {
             messager.printMessage(ERROR, e.getMessage(), e.element());
@@ -6,5 +6,7 @@ class Common {
 
     static final ClassName ANDROID_NON_NULL_ANNOTATION_CLASS_NAME = ClassName.get("android.support.annotation", "NonNull");
 
+    static final ClassName ANDROID_NULLABLE_ANNOTATION_CLASS_NAME = ClassName.get("android.support.annotation", "Nullable");
+
     static final String INDENT = "    "; // 4 spaces
 }
@@ -1,5 +1,6 @@
 package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
+import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
@@ -19,16 +20,30 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 
 public class DeleteResolverGenerator {
 
+    private static final ClassName DELETE_RESULT_CLASS_NAME = ClassName.get("com.pushtorefresh.storio.sqlite.operations.delete", "DeleteResult");
+
     @NotNull
     public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
 
-        final TypeSpec deleteResolver = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteDeleteResolver")
+        final TypeSpec.Builder deleteResolverBuilder = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteDeleteResolver")
                 .addJavadoc("Generated resolver for Delete Operation\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.delete", "DefaultDeleteResolver"), storIOSQLiteTypeClassName))
-                .addMethod(createMapToDeleteQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .build();
+                .addMethod(createMapToDeleteQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+
+        final StorIOSQLiteColumnMeta keyColumn = QueryGenerator.findSingleKeyColumn(storIOSQLiteTypeMeta);
+
+        // Objects with one key column can be deleted in batches and by keys
+        if (keyColumn != null) {
+            deleteResolverBuilder
+                    .addMethod(createTableMethodSpec(storIOSQLiteTypeMeta))
+                    .addMethod(QueryGenerator.createKeyColumnMethodSpec(keyColumn))
+                    .addMethod(QueryGenerator.createMapToKeyMethodSpec(keyColumn, storIOSQLiteTypeClassName))
+                    .addMethod(createDeleteByKeysMethodSpec(storIOSQLiteTypeMeta, keyColumn));
+        }
+
+        final TypeSpec deleteResolver = deleteResolverBuilder.build();
 
         return JavaFile
                 .builder(storIOSQLiteTypeMeta.packageName, deleteResolver)
@@ -59,4 +74,41 @@ public class DeleteResolverGenerator {
                         where.get(QueryGenerator.WHERE_ARGS))
                 .build();
     }
+
+    @NotNull
+    MethodSpec createTableMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        return MethodSpec.methodBuilder("table")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PROTECTED)
+                .returns(String.class)
+                .addStatement("return $S", storIOSQLiteTypeMeta.storIOSQLiteType.table())
+                .build();
+    }
+
+    @NotNull
+    MethodSpec createDeleteByKeysMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull StorIOSQLiteColumnMeta keyColumn) {
+        // resolver methods do not notify subscribers, Operations do it, so generated shortcut does it too
+        return MethodSpec.methodBuilder("deleteByKeys")
+                .addJavadoc("Deletes rows by values of key column in bulk and notifies subscribers,\n" +
+                        "see {@code DefaultDeleteResolver#performDeleteByKeys()}.\n")
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PUBLIC)
+                .returns(DELETE_RESULT_CLASS_NAME)
+                .addParameter(ParameterSpec.builder(QueryGenerator.STORIO_SQLITE_CLASS_NAME, "storIOSQLite")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addParameter(ParameterSpec.builder(QueryGenerator.KEYS_TYPE_NAME, "keys")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addStatement("$T deleteResult = performDeleteByKeys(storIOSQLite, $S, $S, keys)",
+                        DELETE_RESULT_CLASS_NAME,
+                        storIOSQLiteTypeMeta.storIOSQLiteType.table(),
+                        keyColumn.storIOSQLiteColumn.name())
+                .addStatement("storIOSQLite.internal().notifyAboutChanges($T.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()))",
+                        ClassName.get("com.pushtorefresh.storio.sqlite", "Changes"))
+                .addStatement("return deleteResult")
+                .build();
+    }
 }
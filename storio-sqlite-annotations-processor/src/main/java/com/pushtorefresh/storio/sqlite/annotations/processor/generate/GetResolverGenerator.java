@@ -4,7 +4,9 @@ import com.pushtorefresh.storio.sqlite.annotations.processor.ProcessingException
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -13,6 +15,9 @@ import com.squareup.javapoet.TypeSpec;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.INDENT;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.BOOLEAN;
@@ -28,20 +33,34 @@ import static com.pushtorefresh.storio.sqlite.annotations.processor.introspectio
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.SHORT;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.SHORT_OBJECT;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.STRING;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 public class GetResolverGenerator {
 
+    private static final String COLUMN_NAMES_FIELD_NAME = "COLUMN_NAMES";
+
     @NotNull
     public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
 
-        final TypeSpec getResolver = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteGetResolver")
+        final TypeSpec.Builder getResolverBuilder = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteGetResolver")
                 .addJavadoc("Generated resolver for Get Operation\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.get", "DefaultGetResolver"), storIOSQLiteTypeClassName))
-                .addMethod(createMapFromCursorMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .build();
+                .addField(createColumnNamesFieldSpec(storIOSQLiteTypeMeta))
+                .addMethod(createMapFromCursorMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+
+        final StorIOSQLiteColumnMeta keyColumn = QueryGenerator.findSingleKeyColumn(storIOSQLiteTypeMeta);
+
+        // Objects with one key column can be loaded in bulk by keys
+        if (keyColumn != null) {
+            getResolverBuilder.addMethod(createGetByKeysMethodSpec(storIOSQLiteTypeMeta, keyColumn, storIOSQLiteTypeClassName));
+        }
+
+        final TypeSpec getResolver = getResolverBuilder.build();
 
         return JavaFile
                 .builder(storIOSQLiteTypeMeta.packageName, getResolver)
@@ -49,6 +68,27 @@ public class GetResolverGenerator {
                 .build();
     }
 
+    /**
+     * Column names in order of fields, their indices are resolved once per cursor by
+     * {@code DefaultGetResolver#columnIndices(Cursor, String[])} and reused for all rows.
+     */
+    @NotNull
+    FieldSpec createColumnNamesFieldSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final StringBuilder initializerFormat = new StringBuilder("{");
+        final List<String> columnNames = new ArrayList<String>(storIOSQLiteTypeMeta.columns.size());
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            initializerFormat.append(columnNames.isEmpty() ? "$S" : ", $S");
+            columnNames.add(columnMeta.storIOSQLiteColumn.name());
+        }
+
+        initializerFormat.append("}");
+
+        return FieldSpec.builder(ArrayTypeName.of(String.class), COLUMN_NAMES_FIELD_NAME, PRIVATE, STATIC, FINAL)
+                .initializer(initializerFormat.toString(), columnNames.toArray())
+                .build();
+    }
+
     @NotNull
     MethodSpec createMapFromCursorMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull ClassName storIOSQLiteTypeClassName) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("mapFromCursor")
@@ -60,36 +100,55 @@ public class GetResolverGenerator {
                 .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
                         .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
                         .build())
+                .addStatement("int[] columnIndices = columnIndices(cursor, $L)", COLUMN_NAMES_FIELD_NAME)
                 .addStatement("$T object = new $T()", storIOSQLiteTypeClassName, storIOSQLiteTypeClassName)
                 .addCode("\n");
 
-        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
-            final String columnIndex = "cursor.getColumnIndex(\"" + columnMeta.storIOSQLiteColumn.name() + "\")";
+        int columnPosition = 0;
 
-            final String getFromCursor;
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            // same order as in createColumnNamesFieldSpec()
+            final String columnIndex = "columnIndices[" + columnPosition++ + "]";
 
             final JavaType javaType = columnMeta.javaType;
 
+            // primitives are read directly, without boxing
+            final String getFromCursor;
+            final Class<?> boxedType;
+
             if (javaType == BOOLEAN || javaType == BOOLEAN_OBJECT) {
-                getFromCursor = "getInt(" + columnIndex + ") == 1";
+                getFromCursor = "cursor.getInt(" + columnIndex + ") == 1";
+                boxedType = Boolean.class;
             } else if (javaType == SHORT || javaType == SHORT_OBJECT) {
-                getFromCursor = "getShort(" + columnIndex + ")";
+                getFromCursor = "cursor.getShort(" + columnIndex + ")";
+                boxedType = Short.class;
             } else if (javaType == INTEGER || javaType == INTEGER_OBJECT) {
-                getFromCursor = "getInt(" + columnIndex + ")";
+                getFromCursor = "cursor.getInt(" + columnIndex + ")";
+                boxedType = Integer.class;
             } else if (javaType == LONG || javaType == LONG_OBJECT) {
-                getFromCursor = "getLong(" + columnIndex + ")";
+                getFromCursor = "cursor.getLong(" + columnIndex + ")";
+                boxedType = Long.class;
             } else if (javaType == FLOAT || javaType == FLOAT_OBJECT) {
-                getFromCursor = "getFloat(" + columnIndex + ")";
+                getFromCursor = "cursor.getFloat(" + columnIndex + ")";
+                boxedType = Float.class;
             } else if (javaType == DOUBLE || javaType == DOUBLE_OBJECT) {
-                getFromCursor = "getDouble(" + columnIndex + ")";
+                getFromCursor = "cursor.getDouble(" + columnIndex + ")";
+                boxedType = Double.class;
             } else if (javaType == STRING) {
-                getFromCursor = "getString(" + columnIndex + ")";
+                // getString() returns null for NULL itself
+                getFromCursor = "cursor.getString(" + columnIndex + ")";
+                boxedType = null;
             } else {
                 throw new ProcessingException(columnMeta.element, "Can not generate GetResolver for field");
             }
 
-            builder
-                    .addStatement("object.$L = cursor.$L", columnMeta.fieldName, getFromCursor);
+            if (boxedType != null && javaType.isBoxed()) {
+                // getters of Cursor return 0 for NULL, valueOf() reuses cached instances
+                builder.addStatement("object.$L = cursor.isNull($L) ? null : $T.valueOf($L)",
+                        columnMeta.fieldName, columnIndex, boxedType, getFromCursor);
+            } else {
+                builder.addStatement("object.$L = $L", columnMeta.fieldName, getFromCursor);
+            }
         }
 
         return builder
@@ -97,4 +156,25 @@ public class GetResolverGenerator {
                 .addStatement("return object")
                 .build();
     }
+
+    @NotNull
+    MethodSpec createGetByKeysMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta,
+                                         @NotNull StorIOSQLiteColumnMeta keyColumn,
+                                         @NotNull ClassName storIOSQLiteTypeClassName) {
+        return MethodSpec.methodBuilder("getByKeys")
+                .addJavadoc("Gets objects by values of key column in bulk, see {@code DefaultGetResolver#performGetByKeys()}.\n")
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), storIOSQLiteTypeClassName))
+                .addParameter(ParameterSpec.builder(QueryGenerator.STORIO_SQLITE_CLASS_NAME, "storIOSQLite")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addParameter(ParameterSpec.builder(QueryGenerator.KEYS_TYPE_NAME, "keys")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addStatement("return performGetByKeys(storIOSQLite, $S, $S, keys)",
+                        storIOSQLiteTypeMeta.storIOSQLiteType.table(),
+                        keyColumn.storIOSQLiteColumn.name())
+                .build();
+    }
 }
@@ -1,8 +1,12 @@
 package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
+import com.pushtorefresh.storio.sqlite.annotations.processor.ProcessingException;
+import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -11,27 +15,61 @@ import com.squareup.javapoet.TypeSpec;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.INDENT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.BOOLEAN;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.BOOLEAN_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.DOUBLE;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.DOUBLE_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.FLOAT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.FLOAT_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.INTEGER;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.INTEGER_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.LONG;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.LONG_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.SHORT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.SHORT_OBJECT;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.STRING;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 public class PutResolverGenerator {
 
+    private static final String INSERT_COLUMNS_FIELD_NAME = "INSERT_COLUMNS";
+
     @NotNull
     public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
 
-        final TypeSpec putResolver = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLitePutResolver")
+        final TypeSpec.Builder putResolverBuilder = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "StorIOSQLitePutResolver")
                 .addJavadoc("Generated resolver for Put Operation\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.put", "DefaultPutResolver"), storIOSQLiteTypeClassName))
+                .addField(createInsertColumnsFieldSpec(storIOSQLiteTypeMeta))
                 .addMethod(createMapToInsertQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
                 .addMethod(createMapToUpdateQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
                 .addMethod(createMapToContentValuesMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .build();
+                .addMethod(createUpdateFirstMethodSpec())
+                .addMethod(createInsertColumnsMethodSpec())
+                .addMethod(createBindToInsertStatementMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+
+        final StorIOSQLiteColumnMeta keyColumn = QueryGenerator.findSingleKeyColumn(storIOSQLiteTypeMeta);
+
+        // Put of objects with one key column reports keys of affected rows
+        if (keyColumn != null) {
+            putResolverBuilder
+                    .addMethod(QueryGenerator.createKeyColumnMethodSpec(keyColumn))
+                    .addMethod(QueryGenerator.createMapToKeyMethodSpec(keyColumn, storIOSQLiteTypeClassName));
+        }
+
+        final TypeSpec putResolver = putResolverBuilder.build();
 
         return JavaFile
                 .builder(storIOSQLiteTypeMeta.packageName, putResolver)
@@ -108,4 +146,103 @@ public class PutResolverGenerator {
                 .addStatement("return contentValues")
                 .build();
     }
+
+    @NotNull
+    MethodSpec createUpdateFirstMethodSpec() {
+        // Update query of generated resolver is always by key columns,
+        // so update-then-insert is equivalent to query-then-insert-or-update but cheaper
+        return MethodSpec.methodBuilder("updateFirst")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addModifiers(PROTECTED)
+                .returns(boolean.class)
+                .addStatement("return true")
+                .build();
+    }
+
+    /**
+     * Columns in order of fields, same order is used by {@link #createBindToInsertStatementMethodSpec}.
+     */
+    @NotNull
+    FieldSpec createInsertColumnsFieldSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final StringBuilder initializerFormat = new StringBuilder("{");
+        final List<String> columnNames = new ArrayList<String>(storIOSQLiteTypeMeta.columns.size());
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            initializerFormat.append(columnNames.isEmpty() ? "$S" : ", $S");
+            columnNames.add(columnMeta.storIOSQLiteColumn.name());
+        }
+
+        initializerFormat.append("}");
+
+        return FieldSpec.builder(ArrayTypeName.of(String.class), INSERT_COLUMNS_FIELD_NAME, PRIVATE, STATIC, FINAL)
+                .initializer(initializerFormat.toString(), columnNames.toArray())
+                .build();
+    }
+
+    @NotNull
+    MethodSpec createInsertColumnsMethodSpec() {
+        return MethodSpec.methodBuilder("insertColumns")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PROTECTED)
+                .returns(ArrayTypeName.of(String.class))
+                .addStatement("return $L", INSERT_COLUMNS_FIELD_NAME)
+                .build();
+    }
+
+    @NotNull
+    MethodSpec createBindToInsertStatementMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull ClassName storIOSQLiteTypeClassName) {
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("bindToInsertStatement")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addModifiers(PROTECTED)
+                .addParameter(ParameterSpec.builder(ClassName.get("android.database.sqlite", "SQLiteStatement"), "statement")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addParameter(ParameterSpec.builder(storIOSQLiteTypeClassName, "object")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build());
+
+        int argumentIndex = 1; // same order as in createInsertColumnsFieldSpec()
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            final JavaType javaType = columnMeta.javaType;
+            final String field = "object." + columnMeta.fieldName;
+
+            // primitives are bound without boxing, same conversions as for ContentValues
+            final String bindStatement;
+
+            if (javaType == BOOLEAN || javaType == BOOLEAN_OBJECT) {
+                bindStatement = "statement.bindLong($L, $L ? 1 : 0)";
+            } else if (javaType == SHORT || javaType == SHORT_OBJECT
+                    || javaType == INTEGER || javaType == INTEGER_OBJECT
+                    || javaType == LONG || javaType == LONG_OBJECT) {
+                bindStatement = "statement.bindLong($L, $L)";
+            } else if (javaType == FLOAT || javaType == FLOAT_OBJECT
+                    || javaType == DOUBLE || javaType == DOUBLE_OBJECT) {
+                bindStatement = "statement.bindDouble($L, $L)";
+            } else if (javaType == STRING) {
+                bindStatement = "statement.bindString($L, $L)";
+            } else {
+                throw new ProcessingException(columnMeta.element, "Can not generate PutResolver for field");
+            }
+
+            if (javaType == STRING || javaType.isBoxed()) {
+                builder
+                        .beginControlFlow("if ($L == null)", field)
+                        .addStatement("statement.bindNull($L)", argumentIndex)
+                        .nextControlFlow("else")
+                        .addStatement(bindStatement, argumentIndex, field)
+                        .endControlFlow();
+            } else {
+                builder.addStatement(bindStatement, argumentIndex, field);
+            }
+
+            argumentIndex++;
+        }
+
+        return builder.build();
+    }
 }
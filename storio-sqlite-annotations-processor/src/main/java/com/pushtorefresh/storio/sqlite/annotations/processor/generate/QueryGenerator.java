@@ -2,18 +2,37 @@ package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.WildcardTypeName;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
+import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.ANDROID_NULLABLE_ANNOTATION_CLASS_NAME;
+import static javax.lang.model.element.Modifier.PROTECTED;
+
 public class QueryGenerator {
 
     public static final String WHERE_CLAUSE = "where";
     public static final String WHERE_ARGS = "whereArgs";
 
+    static final ClassName STORIO_SQLITE_CLASS_NAME = ClassName.get("com.pushtorefresh.storio.sqlite", "StorIOSQLite");
+
+    /**
+     * {@code Collection<?>} of values of key column for bulk operations by keys.
+     */
+    static final TypeName KEYS_TYPE_NAME = ParameterizedTypeName.get(ClassName.get(Collection.class), WildcardTypeName.subtypeOf(Object.class));
+
     @NotNull
     public static Map<String, String> createWhere(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull String varName) {
         final StringBuilder whereClause = new StringBuilder();
@@ -60,4 +79,59 @@ public class QueryGenerator {
             return result;
         }
     }
+
+    /**
+     * Finds key column of the type if type has exactly one key column.
+     *
+     * @return meta of the single key column or {@code null} if type has no key columns or more than one.
+     */
+    @Nullable
+    public static StorIOSQLiteColumnMeta findSingleKeyColumn(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        StorIOSQLiteColumnMeta keyColumn = null;
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            if (columnMeta.storIOSQLiteColumn.key()) {
+                if (keyColumn != null) {
+                    return null;
+                }
+
+                keyColumn = columnMeta;
+            }
+        }
+
+        return keyColumn;
+    }
+
+    /**
+     * Creates override of {@code keyColumn()} of default resolvers.
+     */
+    @NotNull
+    static MethodSpec createKeyColumnMethodSpec(@NotNull StorIOSQLiteColumnMeta keyColumn) {
+        return MethodSpec.methodBuilder("keyColumn")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PROTECTED)
+                .returns(String.class)
+                .addStatement("return $S", keyColumn.storIOSQLiteColumn.name())
+                .build();
+    }
+
+    /**
+     * Creates override of {@code mapToKey(object)} of default resolvers.
+     */
+    @NotNull
+    static MethodSpec createMapToKeyMethodSpec(@NotNull StorIOSQLiteColumnMeta keyColumn, @NotNull ClassName storIOSQLiteTypeClassName) {
+        return MethodSpec.methodBuilder("mapToKey")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NULLABLE_ANNOTATION_CLASS_NAME)
+                .addModifiers(PROTECTED)
+                .returns(Object.class)
+                .addParameter(ParameterSpec.builder(storIOSQLiteTypeClassName, "object")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addStatement("return object.$L", keyColumn.fieldName)
+                .build();
+    }
 }
@@ -0,0 +1,47 @@
+package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
+
+import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import org.jetbrains.annotations.NotNull;
+
+import static com.pushtorefresh.storio.sqlite.annotations.processor.generate.Common.INDENT;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+public class TypeMappingGenerator {
+
+    @NotNull
+    public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
+
+        final TypeSpec typeMapping = TypeSpec.classBuilder(storIOSQLiteTypeMeta.simpleName + "SQLiteTypeMapping")
+                .addJavadoc("Generated mapping with generated Put, Get and Delete resolvers\n")
+                .addModifiers(PUBLIC)
+                .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite", "SQLiteTypeMapping"), storIOSQLiteTypeClassName))
+                .addMethod(createConstructorMethodSpec(storIOSQLiteTypeMeta))
+                .build();
+
+        return JavaFile
+                .builder(storIOSQLiteTypeMeta.packageName, typeMapping)
+                .indent(INDENT)
+                .build();
+    }
+
+    @NotNull
+    MethodSpec createConstructorMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        // resolvers are generated in the same package as the type
+        return MethodSpec.constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addCode("super(new $T(),\n" +
+                                INDENT + INDENT + "new $T(),\n" +
+                                INDENT + INDENT + "new $T());\n",
+                        ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName + "StorIOSQLitePutResolver"),
+                        ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteGetResolver"),
+                        ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName + "StorIOSQLiteDeleteResolver"))
+                .build();
+    }
+}
@@ -21,6 +21,20 @@ public enum JavaType {
     DOUBLE_OBJECT,
     STRING;
 
+    /**
+     * Checks whether type is a wrapper of primitive, so its value can be {@code null}.
+     *
+     * @return {@code true} for {@code *_OBJECT} types, {@code false} otherwise.
+     */
+    public boolean isBoxed() {
+        return this == BOOLEAN_OBJECT
+                || this == SHORT_OBJECT
+                || this == INTEGER_OBJECT
+                || this == LONG_OBJECT
+                || this == FLOAT_OBJECT
+                || this == DOUBLE_OBJECT;
+    }
+
     @NotNull
     public static JavaType from(@NotNull TypeMirror typeMirror) {
         final TypeKind typeKind = typeMirror.getKind();
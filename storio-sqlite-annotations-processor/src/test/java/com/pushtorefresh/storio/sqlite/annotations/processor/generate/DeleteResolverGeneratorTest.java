@@ -79,4 +79,114 @@ public class DeleteResolverGeneratorTest {
                 "    }\n" +
                 "}\n", out.toString());
     }
+
+    @Test
+    public void generateJavaFileWithOneKeyColumn() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta(
+                "TestItem",
+                "com.test",
+                storIOSQLiteType
+        );
+
+        final StorIOSQLiteColumn storIOSQLiteColumn1 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn1.name()).thenReturn("column1");
+        when(storIOSQLiteColumn1.key()).thenReturn(true);
+        final StorIOSQLiteColumnMeta storIOSQLiteColumnMeta1 = new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field1",
+                null,
+                storIOSQLiteColumn1
+        );
+        storIOSQLiteTypeMeta.columns.put("column1", storIOSQLiteColumnMeta1);
+
+        final StorIOSQLiteColumn storIOSQLiteColumn2 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn2.name()).thenReturn("column2");
+        final StorIOSQLiteColumnMeta storIOSQLiteColumnMeta2 = new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field2",
+                null,
+                storIOSQLiteColumn2
+        );
+        storIOSQLiteTypeMeta.columns.put("column2", storIOSQLiteColumnMeta2);
+
+        final JavaFile javaFile = new DeleteResolverGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertEquals("package com.test;\n" +
+                "\n" +
+                "import android.support.annotation.NonNull;\n" +
+                "import android.support.annotation.Nullable;\n" +
+                "import com.pushtorefresh.storio.sqlite.Changes;\n" +
+                "import com.pushtorefresh.storio.sqlite.StorIOSQLite;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.delete.DefaultDeleteResolver;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResult;\n" +
+                "import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;\n" +
+                "import java.lang.Object;\n" +
+                "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
+                "import java.util.Collection;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated resolver for Delete Operation\n" +
+                " */\n" +
+                "public class TestItemStorIOSQLiteDeleteResolver extends DefaultDeleteResolver<TestItem> {\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected DeleteQuery mapToDeleteQuery(@NonNull TestItem object) {\n" +
+                "        return DeleteQuery.builder()\n" +
+                "            .table(\"test_table\")\n" +
+                "            .where(\"column1 = ?\")\n" +
+                "            .whereArgs(object.field1)\n" +
+                "            .build();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected String table() {\n" +
+                "        return \"test_table\";\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected String keyColumn() {\n" +
+                "        return \"column1\";\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @Nullable\n" +
+                "    protected Object mapToKey(@NonNull TestItem object) {\n" +
+                "        return object.field1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Deletes rows by values of key column in bulk and notifies subscribers,\n" +
+                "     * see {@code DefaultDeleteResolver#performDeleteByKeys()}.\n" +
+                "     */\n" +
+                "    @NonNull\n" +
+                "    public DeleteResult deleteByKeys(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<?> keys) {\n" +
+                "        DeleteResult deleteResult = performDeleteByKeys(storIOSQLite, \"test_table\", \"column1\", keys);\n" +
+                "        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()));\n" +
+                "        return deleteResult;\n" +
+                "    }\n" +
+                "}\n", out.toString());
+    }
 }
@@ -61,24 +61,168 @@ public class GetResolverGeneratorTest {
                 "import android.support.annotation.NonNull;\n" +
                 "import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;\n" +
                 "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
                 "\n" +
                 "/**\n" +
                 " * Generated resolver for Get Operation\n" +
                 " */\n" +
                 "public class TestItemStorIOSQLiteGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    private static final String[] COLUMN_NAMES = {\"column1\", \"column2\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        int[] columnIndices = columnIndices(cursor, COLUMN_NAMES);\n" +
+                "        TestItem object = new TestItem();\n" +
+                "\n" +
+                "        object.field1 = cursor.getInt(columnIndices[0]) == 1;\n" +
+                "        object.field2 = cursor.getString(columnIndices[1]);\n" +
+                "\n" +
+                "        return object;\n" +
+                "    }\n" +
+                "}\n", out.toString());
+    }
+
+    @Test
+    public void shouldCheckNullForBoxedTypes() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta(
+                "TestItem",
+                "com.test",
+                storIOSQLiteType
+        );
+
+        final StorIOSQLiteColumn storIOSQLiteColumn1 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn1.name()).thenReturn("column1");
+        final StorIOSQLiteColumnMeta storIOSQLiteColumnMeta1 = new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field1",
+                JavaType.INTEGER_OBJECT,
+                storIOSQLiteColumn1
+        );
+        storIOSQLiteTypeMeta.columns.put("column1", storIOSQLiteColumnMeta1);
+
+        final StorIOSQLiteColumn storIOSQLiteColumn2 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn2.name()).thenReturn("column2");
+        final StorIOSQLiteColumnMeta storIOSQLiteColumnMeta2 = new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field2",
+                JavaType.BOOLEAN_OBJECT,
+                storIOSQLiteColumn2
+        );
+        storIOSQLiteTypeMeta.columns.put("column2", storIOSQLiteColumnMeta2);
+
+        final JavaFile javaFile = new GetResolverGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertEquals("package com.test;\n" +
+                "\n" +
+                "import android.database.Cursor;\n" +
+                "import android.support.annotation.NonNull;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;\n" +
+                "import java.lang.Boolean;\n" +
+                "import java.lang.Integer;\n" +
+                "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated resolver for Get Operation\n" +
+                " */\n" +
+                "public class TestItemStorIOSQLiteGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    private static final String[] COLUMN_NAMES = {\"column1\", \"column2\"};\n" +
+                "\n" +
                 "    /**\n" +
                 "     * {@inheritDoc}\n" +
                 "     */\n" +
                 "    @Override\n" +
                 "    @NonNull\n" +
                 "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        int[] columnIndices = columnIndices(cursor, COLUMN_NAMES);\n" +
                 "        TestItem object = new TestItem();\n" +
                 "\n" +
-                "        object.field1 = cursor.getInt(cursor.getColumnIndex(\"column1\")) == 1;\n" +
-                "        object.field2 = cursor.getString(cursor.getColumnIndex(\"column2\"));\n" +
+                "        object.field1 = cursor.isNull(columnIndices[0]) ? null : Integer.valueOf(cursor.getInt(columnIndices[0]));\n" +
+                "        object.field2 = cursor.isNull(columnIndices[1]) ? null : Boolean.valueOf(cursor.getInt(columnIndices[1]) == 1);\n" +
                 "\n" +
                 "        return object;\n" +
                 "    }\n" +
                 "}\n", out.toString());
     }
+
+    @Test
+    public void generateJavaFileWithOneKeyColumn() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta(
+                "TestItem",
+                "com.test",
+                storIOSQLiteType
+        );
+
+        final StorIOSQLiteColumn storIOSQLiteColumn1 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn1.name()).thenReturn("column1");
+        when(storIOSQLiteColumn1.key()).thenReturn(true);
+        final StorIOSQLiteColumnMeta storIOSQLiteColumnMeta1 = new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field1",
+                JavaType.LONG,
+                storIOSQLiteColumn1
+        );
+        storIOSQLiteTypeMeta.columns.put("column1", storIOSQLiteColumnMeta1);
+
+        final JavaFile javaFile = new GetResolverGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertEquals("package com.test;\n" +
+                "\n" +
+                "import android.database.Cursor;\n" +
+                "import android.support.annotation.NonNull;\n" +
+                "import com.pushtorefresh.storio.sqlite.StorIOSQLite;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;\n" +
+                "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
+                "import java.util.Collection;\n" +
+                "import java.util.List;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated resolver for Get Operation\n" +
+                " */\n" +
+                "public class TestItemStorIOSQLiteGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    private static final String[] COLUMN_NAMES = {\"column1\"};\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        int[] columnIndices = columnIndices(cursor, COLUMN_NAMES);\n" +
+                "        TestItem object = new TestItem();\n" +
+                "\n" +
+                "        object.field1 = cursor.getLong(columnIndices[0]);\n" +
+                "\n" +
+                "        return object;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Gets objects by values of key column in bulk, see {@code DefaultGetResolver#performGetByKeys()}.\n" +
+                "     */\n" +
+                "    @NonNull\n" +
+                "    public List<TestItem> getByKeys(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<?> keys) {\n" +
+                "        return performGetByKeys(storIOSQLite, \"test_table\", \"column1\", keys);\n" +
+                "    }\n" +
+                "}\n", out.toString());
+    }
 }
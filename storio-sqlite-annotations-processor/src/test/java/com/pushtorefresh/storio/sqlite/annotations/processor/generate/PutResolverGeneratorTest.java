@@ -2,6 +2,7 @@ package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
 import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteColumn;
 import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteType;
+import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
 import com.squareup.javapoet.JavaFile;
@@ -33,7 +34,7 @@ public class PutResolverGeneratorTest {
                 null,
                 null,
                 "column1Field",
-                null,
+                JavaType.LONG,
                 storIOSQLiteColumn1
         );
         storIOSQLiteTypeMeta.columns.put("column1", storIOSQLiteColumnMeta1);
@@ -45,7 +46,7 @@ public class PutResolverGeneratorTest {
                 null,
                 null,
                 "column2Field",
-                null,
+                JavaType.STRING,
                 storIOSQLiteColumn2
         );
         storIOSQLiteTypeMeta.columns.put("column2", storIOSQLiteColumnMeta2);
@@ -57,16 +58,22 @@ public class PutResolverGeneratorTest {
         assertEquals("package com.test;\n" +
                 "\n" +
                 "import android.content.ContentValues;\n" +
+                "import android.database.sqlite.SQLiteStatement;\n" +
                 "import android.support.annotation.NonNull;\n" +
+                "import android.support.annotation.Nullable;\n" +
                 "import com.pushtorefresh.storio.sqlite.operations.put.DefaultPutResolver;\n" +
                 "import com.pushtorefresh.storio.sqlite.queries.InsertQuery;\n" +
                 "import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;\n" +
+                "import java.lang.Object;\n" +
                 "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
                 "\n" +
                 "/**\n" +
                 " * Generated resolver for Put Operation\n" +
                 " */\n" +
                 "public class TestItemStorIOSQLitePutResolver extends DefaultPutResolver<TestItem> {\n" +
+                "    private static final String[] INSERT_COLUMNS = {\"column1\", \"column2\"};\n" +
+                "\n" +
                 "    /**\n" +
                 "     * {@inheritDoc}\n" +
                 "     */\n" +
@@ -104,6 +111,54 @@ public class PutResolverGeneratorTest {
                 "\n" +
                 "        return contentValues;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    protected boolean updateFirst() {\n" +
+                "        return true;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected String[] insertColumns() {\n" +
+                "        return INSERT_COLUMNS;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    protected void bindToInsertStatement(@NonNull SQLiteStatement statement, @NonNull TestItem object) {\n" +
+                "        statement.bindLong(1, object.column1Field);\n" +
+                "        if (object.column2Field == null) {\n" +
+                "            statement.bindNull(2);\n" +
+                "        } else {\n" +
+                "            statement.bindString(2, object.column2Field);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected String keyColumn() {\n" +
+                "        return \"column1\";\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @Nullable\n" +
+                "    protected Object mapToKey(@NonNull TestItem object) {\n" +
+                "        return object.column1Field;\n" +
+                "    }\n" +
                 "}\n", out.toString());
     }
 }
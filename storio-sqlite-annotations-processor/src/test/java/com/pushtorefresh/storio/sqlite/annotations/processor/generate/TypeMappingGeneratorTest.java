@@ -0,0 +1,48 @@
+package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
+
+import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteType;
+import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
+import com.squareup.javapoet.JavaFile;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TypeMappingGeneratorTest {
+
+    @Test
+    public void generateJavaFile() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta(
+                "TestItem",
+                "com.test",
+                storIOSQLiteType
+        );
+
+        final JavaFile javaFile = new TypeMappingGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertEquals("package com.test;\n" +
+                "\n" +
+                "import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated mapping with generated Put, Get and Delete resolvers\n" +
+                " */\n" +
+                "public class TestItemSQLiteTypeMapping extends SQLiteTypeMapping<TestItem> {\n" +
+                "    public TestItemSQLiteTypeMapping() {\n" +
+                "        super(new TestItemStorIOSQLitePutResolver(),\n" +
+                "                new TestItemStorIOSQLiteGetResolver(),\n" +
+                "                new TestItemStorIOSQLiteDeleteResolver());\n" +
+                "    }\n" +
+                "}\n", out.toString());
+    }
+}
@@ -19,6 +19,8 @@ import static com.pushtorefresh.storio.sqlite.annotations.processor.introspectio
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.SHORT_OBJECT;
 import static com.pushtorefresh.storio.sqlite.annotations.processor.introspection.JavaType.STRING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -113,4 +115,21 @@ public class JavaTypeTest {
         final TypeMirror typeMirror = mockTypeMirror(null, "java.lang.String");
         assertEquals(STRING, JavaType.from(typeMirror));
     }
+
+    @Test
+    public void isBoxed() {
+        assertFalse(BOOLEAN.isBoxed());
+        assertTrue(BOOLEAN_OBJECT.isBoxed());
+        assertFalse(SHORT.isBoxed());
+        assertTrue(SHORT_OBJECT.isBoxed());
+        assertFalse(INTEGER.isBoxed());
+        assertTrue(INTEGER_OBJECT.isBoxed());
+        assertFalse(LONG.isBoxed());
+        assertTrue(LONG_OBJECT.isBoxed());
+        assertFalse(FLOAT.isBoxed());
+        assertTrue(FLOAT_OBJECT.isBoxed());
+        assertFalse(DOUBLE.isBoxed());
+        assertTrue(DOUBLE_OBJECT.isBoxed());
+        assertFalse(STRING.isBoxed());
+    }
 }
@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio.sqlite;
+
+import android.support.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * Immutable container of information about rows of one table affected by some change:
+ * name of the key column and its values in affected rows.
+ * <p>
+ * Keys are stored as strings, same as {@code whereArgs} of queries.
+ */
+public final class AffectedRows {
+
+    @NonNull
+    private final String table;
+
+    @NonNull
+    private final String keyColumn;
+
+    /**
+     * Immutable set of keys.
+     */
+    @NonNull
+    private final Set<String> keys;
+
+    private AffectedRows(@NonNull String table, @NonNull String keyColumn, @NonNull Set<String> keys) {
+        checkNotEmpty(table, "Please specify table");
+        checkNotEmpty(keyColumn, "Please specify key column");
+        checkNotNull(keys, "Please specify keys");
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.keys = Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Creates new instance of {@link AffectedRows}.
+     *
+     * @param table     table that contains affected rows.
+     * @param keyColumn column that identifies rows of the table.
+     * @param keys      values of key column of affected rows.
+     * @return new immutable instance of {@link AffectedRows}.
+     */
+    @NonNull
+    public static AffectedRows newInstance(@NonNull String table, @NonNull String keyColumn, @NonNull Set<String> keys) {
+        return new AffectedRows(table, keyColumn, keys);
+    }
+
+    /**
+     * Creates new instance of {@link AffectedRows} with one affected row.
+     *
+     * @param table     table that contains affected row.
+     * @param keyColumn column that identifies rows of the table.
+     * @param key       value of key column of affected row.
+     * @return new immutable instance of {@link AffectedRows}.
+     */
+    @NonNull
+    public static AffectedRows newInstance(@NonNull String table, @NonNull String keyColumn, @NonNull String key) {
+        checkNotNull(key, "Please specify key");
+        return new AffectedRows(table, keyColumn, Collections.singleton(key));
+    }
+
+    /**
+     * Gets table that contains affected rows.
+     *
+     * @return non-null name of the table.
+     */
+    @NonNull
+    public String table() {
+        return table;
+    }
+
+    /**
+     * Gets column that identifies rows of the table.
+     *
+     * @return non-null name of the key column.
+     */
+    @NonNull
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Gets values of key column of affected rows.
+     *
+     * @return immutable set of keys.
+     */
+    @NonNull
+    public Set<String> keys() {
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        AffectedRows that = (AffectedRows) o;
+
+        if (!table.equals(that.table)) return false;
+        if (!keyColumn.equals(that.keyColumn)) return false;
+        return keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = table.hashCode();
+        result = 31 * result + keyColumn.hashCode();
+        result = 31 * result + keys.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "AffectedRows{" +
+                "table='" + table + '\'' +
+                ", keyColumn='" + keyColumn + '\'' +
+                ", keys=" + keys +
+                '}';
+    }
+}
@@ -1,14 +1,24 @@
 package com.pushtorefresh.storio.sqlite;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.internal.PendingChanges;
+
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 
 /**
  * Immutable container of information about one or more changes happened in {@link StorIOSQLite}.
+ * <p>
+ * Optionally, it contains {@link AffectedRows} of affected tables, so observers of particular
+ * rows can ignore changes of other rows. If there are no {@link AffectedRows} for affected table,
+ * any row of the table could be changed.
  */
 public final class Changes {
 
@@ -18,14 +28,22 @@ public final class Changes {
     @NonNull
     private final Set<String> affectedTables;
 
+    /**
+     * Immutable map: table -> affected rows, contains only tables with known affected rows.
+     */
+    @NonNull
+    private final Map<String, AffectedRows> affectedRows;
+
     /**
      * Creates {@link Changes} container with info about changes.
      *
      * @param affectedTables set of tables which were affected by these changes.
+     * @param affectedRows   map of tables with known affected rows to their rows.
      */
-    private Changes(@NonNull Set<String> affectedTables) {
+    private Changes(@NonNull Set<String> affectedTables, @NonNull Map<String, AffectedRows> affectedRows) {
         checkNotNull(affectedTables, "Please specify affected tables");
         this.affectedTables = Collections.unmodifiableSet(affectedTables);
+        this.affectedRows = affectedRows;
     }
 
     /**
@@ -36,7 +54,7 @@ public final class Changes {
      */
     @NonNull
     public static Changes newInstance(@NonNull Set<String> affectedTables) {
-        return new Changes(affectedTables);
+        return new Changes(affectedTables, Collections.<String, AffectedRows>emptyMap());
     }
 
     /**
@@ -48,7 +66,104 @@ public final class Changes {
     @NonNull
     public static Changes newInstance(@NonNull String affectedTable) {
         checkNotNull(affectedTable, "Please specify affected table");
-        return new Changes(Collections.singleton(affectedTable));
+        return new Changes(Collections.singleton(affectedTable), Collections.<String, AffectedRows>emptyMap());
+    }
+
+    /**
+     * Creates {@link Changes} container with info about changes of particular rows of one table.
+     *
+     * @param affectedRows rows that were affected.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes newInstance(@NonNull AffectedRows affectedRows) {
+        checkNotNull(affectedRows, "Please specify affected rows");
+        return new Changes(
+                Collections.singleton(affectedRows.table()),
+                Collections.singletonMap(affectedRows.table(), affectedRows)
+        );
+    }
+
+    /**
+     * Creates {@link Changes} container with info about changes.
+     *
+     * @param affectedTables non-null set of affected tables.
+     * @param affectedRows   rows of one of affected tables that were affected
+     *                       or {@code null} if affected rows are unknown.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes newInstance(@NonNull Set<String> affectedTables, @Nullable AffectedRows affectedRows) {
+        checkNotNull(affectedTables, "Please specify affected tables");
+
+        if (affectedRows == null) {
+            return newInstance(affectedTables);
+        }
+
+        if (!affectedTables.contains(affectedRows.table())) {
+            throw new IllegalArgumentException("Table of affected rows should be one of affected tables: " +
+                    "affectedRows = " + affectedRows + ", affectedTables = " + affectedTables);
+        }
+
+        return new Changes(affectedTables, Collections.singletonMap(affectedRows.table(), affectedRows));
+    }
+
+    /**
+     * Creates {@link Changes} container with info about changes of particular rows of multiple tables.
+     *
+     * @param affectedTables non-null set of affected tables.
+     * @param affectedRows   non-null collection of affected rows, at most one per table,
+     *                       table of each affected rows should be one of affected tables.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes newInstance(@NonNull Set<String> affectedTables, @NonNull Collection<AffectedRows> affectedRows) {
+        checkNotNull(affectedTables, "Please specify affected tables");
+        checkNotNull(affectedRows, "Please specify affected rows");
+
+        final Map<String, AffectedRows> rowsByTable = new HashMap<String, AffectedRows>(affectedRows.size());
+
+        for (final AffectedRows rows : affectedRows) {
+            if (!affectedTables.contains(rows.table())) {
+                throw new IllegalArgumentException("Table of affected rows should be one of affected tables: " +
+                        "affectedRows = " + rows + ", affectedTables = " + affectedTables);
+            }
+
+            if (rowsByTable.put(rows.table(), rows) != null) {
+                throw new IllegalArgumentException("Affected rows should be specified at most once per table: " +
+                        "affectedRows = " + affectedRows);
+            }
+        }
+
+        return new Changes(affectedTables, Collections.unmodifiableMap(rowsByTable));
+    }
+
+    /**
+     * Merges multiple {@link Changes} into one.
+     * <p>
+     * Affected rows of a table are known in merged {@link Changes}
+     * only if they were known in all merged {@link Changes} that affected this table
+     * with same key column, otherwise any row of the table could be changed.
+     *
+     * @param changes non-empty collection of changes to merge.
+     * @return new immutable instance of {@link Changes} or the only one from passed collection.
+     * @throws IllegalStateException if collection is empty.
+     */
+    @NonNull
+    public static Changes merge(@NonNull Collection<Changes> changes) {
+        checkNotNull(changes, "Please specify changes");
+
+        if (changes.size() == 1) {
+            return changes.iterator().next();
+        }
+
+        final PendingChanges pendingChanges = new PendingChanges();
+
+        for (final Changes change : changes) {
+            pendingChanges.add(change);
+        }
+
+        return pendingChanges.toChanges();
     }
 
     /**
@@ -61,6 +176,18 @@ public final class Changes {
         return affectedTables;
     }
 
+    /**
+     * Gets rows of the table that were affected.
+     *
+     * @param table name of the table.
+     * @return affected rows of the table or {@code null} if any row of the table could be changed
+     * or table was not affected at all.
+     */
+    @Nullable
+    public AffectedRows affectedRows(@NonNull String table) {
+        return affectedRows.get(table);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,18 +195,22 @@ public final class Changes {
 
         Changes changes = (Changes) o;
 
-        return affectedTables.equals(changes.affectedTables);
+        if (!affectedTables.equals(changes.affectedTables)) return false;
+        return affectedRows.equals(changes.affectedRows);
     }
 
     @Override
     public int hashCode() {
-        return affectedTables.hashCode();
+        int result = affectedTables.hashCode();
+        result = 31 * result + affectedRows.hashCode();
+        return result;
     }
 
     @Override
     public String toString() {
         return "Changes{" +
                 "affectedTables=" + affectedTables +
+                ", affectedRows=" + affectedRows +
                 '}';
     }
 }
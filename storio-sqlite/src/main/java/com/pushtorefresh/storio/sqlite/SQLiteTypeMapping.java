@@ -24,9 +24,20 @@ public class SQLiteTypeMapping<T> {
     @NonNull
     private final DeleteResolver<T> deleteResolver;
 
-    SQLiteTypeMapping(@NonNull PutResolver<T> putResolver,
-                      @NonNull GetResolver<T> getResolver,
-                      @NonNull DeleteResolver<T> deleteResolver) {
+    /**
+     * Creates type mapping with passed resolvers, for subclasses,
+     * generated type mappings use it. Please use {@link #builder()} otherwise.
+     *
+     * @param putResolver    non-null resolver for Put Operation.
+     * @param getResolver    non-null resolver for Get Operation.
+     * @param deleteResolver non-null resolver for Delete Operation.
+     */
+    protected SQLiteTypeMapping(@NonNull PutResolver<T> putResolver,
+                                @NonNull GetResolver<T> getResolver,
+                                @NonNull DeleteResolver<T> deleteResolver) {
+        checkNotNull(putResolver, "Please specify PutResolver");
+        checkNotNull(getResolver, "Please specify GetResolver");
+        checkNotNull(deleteResolver, "Please specify DeleteResolver");
         this.putResolver = putResolver;
         this.getResolver = getResolver;
         this.deleteResolver = deleteResolver;
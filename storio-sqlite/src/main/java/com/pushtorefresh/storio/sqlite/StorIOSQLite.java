@@ -6,10 +6,13 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
+import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.sqlite.operations.delete.PreparedDelete;
 import com.pushtorefresh.storio.sqlite.operations.execute.PreparedExecuteSQL;
 import com.pushtorefresh.storio.sqlite.operations.get.PreparedGet;
+import com.pushtorefresh.storio.sqlite.operations.group.PreparedGroupOperation;
 import com.pushtorefresh.storio.sqlite.operations.put.PreparedPut;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -19,8 +22,11 @@ import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 import java.io.Closeable;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import rx.Observable;
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
 
 /**
  * Powerful but simple abstraction for {@link android.database.sqlite.SQLiteDatabase}.
@@ -74,6 +80,54 @@ public abstract class StorIOSQLite implements Closeable {
         return new PreparedDelete.Builder(this);
     }
 
+    /**
+     * Prepares "Group" Operation for {@link StorIOSQLite}.
+     * Allows to execute multiple Operations in one transaction
+     * with one notification about all changes.
+     *
+     * @return builder for {@link PreparedGroupOperation}.
+     */
+    @NonNull
+    public PreparedGroupOperation.Builder group() {
+        return new PreparedGroupOperation.Builder(this);
+    }
+
+    /**
+     * Executes passed {@link Callable} in transaction: all changes made by it are committed
+     * if it returns normally and rolled back if it throws an exception.
+     * <p>
+     * Can be nested: nested transaction is rolled back without affecting the outer one
+     * if implementation supports savepoints, see {@link Internal#beginTransaction()}.
+     * Subscribers are notified about all changes once, after the outermost transaction.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread.
+     *
+     * @param callable work that should be done in transaction, for example execution of some Operations.
+     * @param <Result> type of result.
+     * @return result of the passed {@link Callable}.
+     * @throws StorIOException if {@link Callable} threw checked exception, runtime exceptions
+     *                         (including {@link StorIOException} of Operations) are rethrown as is.
+     */
+    @WorkerThread
+    public <Result> Result inTransaction(@NonNull Callable<Result> callable) {
+        final Internal internal = internal();
+
+        internal.beginTransaction();
+
+        try {
+            final Result result = callable.call();
+            internal.setTransactionSuccessful();
+            return result;
+        } catch (RuntimeException exception) {
+            // already StorIOException or unchecked, no reason to wrap it again
+            throw exception;
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        } finally {
+            internal.endTransaction();
+        }
+    }
+
     /**
      * Subscribes to changes of required tables.
      *
@@ -94,6 +148,32 @@ public abstract class StorIOSQLite implements Closeable {
         return observeChangesInTables(Collections.singleton(table));
     }
 
+    /**
+     * Gets {@link Scheduler} for Observables of read operations (Get):
+     * they are subscribed on it and re-execute queries after changes on it.
+     * <p>
+     * Default implementation returns {@link Schedulers#io()}.
+     *
+     * @return scheduler for reads or {@code null} to execute reads on the thread of subscriber.
+     */
+    @Nullable
+    public Scheduler readScheduler() {
+        return Schedulers.io();
+    }
+
+    /**
+     * Gets {@link Scheduler} for Observables of write operations (Put, Delete, ExecuteSQL):
+     * they are subscribed on it.
+     * <p>
+     * Default implementation returns {@link Schedulers#io()}.
+     *
+     * @return scheduler for writes or {@code null} to execute writes on the thread of subscriber.
+     */
+    @Nullable
+    public Scheduler writeScheduler() {
+        return Schedulers.io();
+    }
+
     /**
      * Hides some internal operations of {@link StorIOSQLite}
      * to make API of {@link StorIOSQLite} clean and easy to understand.
@@ -165,6 +245,29 @@ public abstract class StorIOSQLite implements Closeable {
         @WorkerThread
         public abstract long insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues);
 
+        /**
+         * Inserts a row into the database, values are bound by the passed binder
+         * directly to the compiled statement, without {@link ContentValues}.
+         * <p>
+         * Same statement can be reused for all rows with same table and columns,
+         * so columns should be passed in the same order for all of them.
+         * <p>
+         * By default, inserts {@link StatementBinder#mapToContentValues(Object)}
+         * via {@link #insert(InsertQuery, ContentValues)}.
+         *
+         * @param insertQuery query.
+         * @param columns     non-empty columns of the row, in order of arguments of the statement.
+         * @param object      object which values should be inserted.
+         * @param binder      binds values of the object to the statement.
+         * @param <T>         type of the object.
+         * @return id of inserted row.
+         */
+        @WorkerThread
+        public <T> long insert(@NonNull InsertQuery insertQuery, @NonNull String[] columns,
+                               @NonNull T object, @NonNull StatementBinder<T> binder) {
+            return insert(insertQuery, binder.mapToContentValues(object));
+        }
+
         /**
          * Updates one or multiple rows in the database.
          *
@@ -176,6 +279,30 @@ public abstract class StorIOSQLite implements Closeable {
         @WorkerThread
         public abstract int update(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues);
 
+        /**
+         * Updates one or multiple rows in the database, new values are bound by the passed binder
+         * directly to the compiled statement, without {@link ContentValues}.
+         * Arguments of {@link UpdateQuery#whereArgs()} follow values of the columns.
+         * <p>
+         * Same statement can be reused for all updates with same table, columns and WHERE clause,
+         * so columns should be passed in the same order for all of them.
+         * <p>
+         * By default, updates with {@link StatementBinder#mapToContentValues(Object)}
+         * via {@link #update(UpdateQuery, ContentValues)}.
+         *
+         * @param updateQuery query.
+         * @param columns     non-empty columns to update, in order of arguments of the statement.
+         * @param object      object which values should be set.
+         * @param binder      binds values of the object to the statement.
+         * @param <T>         type of the object.
+         * @return the number of rows affected.
+         */
+        @WorkerThread
+        public <T> int update(@NonNull UpdateQuery updateQuery, @NonNull String[] columns,
+                              @NonNull T object, @NonNull StatementBinder<T> binder) {
+            return update(updateQuery, binder.mapToContentValues(object));
+        }
+
         /**
          * Deletes one or multiple rows in the database.
          *
@@ -190,6 +317,10 @@ public abstract class StorIOSQLite implements Closeable {
          * Operations can be executed in transaction or one operation can affect multiple tables,
          * so to reduce number of notifications you can call this method once and
          * provide aggregated Changes object.
+         * <p>
+         * Changes made in transaction are delivered after commit of the outermost transaction
+         * and dropped if transaction is rolled back. Changes made by the thread which is not
+         * in transaction are delivered immediately, even if another thread is in transaction.
          *
          * @param changes changes happened in {@link StorIOSQLite}.
          */
@@ -206,6 +337,8 @@ public abstract class StorIOSQLite implements Closeable {
          * the work done in that transaction and all of the nested transactions will be committed or
          * rolled back. The changes will be rolled back if any transaction is ended without being
          * marked as clean (by calling setTransactionSuccessful). Otherwise they will be committed.
+         * Implementation can start nested transaction as a savepoint, then only work of
+         * the nested transaction is rolled back if it is ended without being marked as clean.
          * </p>
          * <p>Here is the standard idiom for transactions:
          * <p>
@@ -236,5 +369,17 @@ public abstract class StorIOSQLite implements Closeable {
          * how to use this and when transactions are committed and rolled back.
          */
         public abstract void endTransaction();
+
+        /**
+         * Checks whether current thread is in transaction started via {@link #beginTransaction()}.
+         * <p>
+         * Resolvers can use it to skip their own transaction inside of the enclosing one.
+         * Default implementation returns {@code false}.
+         *
+         * @return {@code true} if current thread is in transaction, {@code false} otherwise.
+         */
+        public boolean inTransaction() {
+            return false;
+        }
     }
 }
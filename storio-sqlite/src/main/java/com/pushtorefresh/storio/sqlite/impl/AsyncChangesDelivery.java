@@ -0,0 +1,132 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Delivers {@link Changes} to {@link ChangesDispatcher} on the {@link Executor},
+ * so thread that made the changes does not wait for subscribers.
+ * <p>
+ * Changes are delivered one by one in order of enqueueing, only one task is submitted
+ * to the {@link Executor} at a time. Queue is bounded: if it's full, new {@link Changes}
+ * are merged into the last queued one, so a slow subscriber can not make it grow infinitely.
+ * <p>
+ * Thread-safe.
+ */
+final class AsyncChangesDelivery implements Runnable {
+
+    @NonNull
+    private final Executor executor;
+
+    @NonNull
+    private final ChangesDispatcher changesDispatcher;
+
+    private final int maxQueuedChanges;
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    @NonNull
+    private final ArrayDeque<Changes> queue = new ArrayDeque<Changes>();
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private boolean deliveryScheduled;
+
+    AsyncChangesDelivery(@NonNull Executor executor, @NonNull ChangesDispatcher changesDispatcher, int maxQueuedChanges) {
+        this.executor = executor;
+        this.changesDispatcher = changesDispatcher;
+        this.maxQueuedChanges = maxQueuedChanges;
+    }
+
+    /**
+     * Enqueues {@link Changes} for delivery and returns immediately.
+     *
+     * @param changes changes to deliver.
+     */
+    void enqueue(@NonNull Changes changes) {
+        synchronized (lock) {
+            if (queue.size() >= maxQueuedChanges) {
+                queue.addLast(Changes.merge(Arrays.asList(queue.pollLast(), changes)));
+            } else {
+                queue.addLast(changes);
+            }
+
+            if (deliveryScheduled) {
+                return;
+            }
+
+            deliveryScheduled = true;
+        }
+
+        schedule();
+    }
+
+    /**
+     * @return number of {@link Changes} waiting for delivery.
+     */
+    int numberOfQueuedChanges() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean queueDrained = false;
+
+        try {
+            while (true) {
+                final Changes changes;
+
+                synchronized (lock) {
+                    changes = queue.pollFirst();
+
+                    if (changes == null) {
+                        deliveryScheduled = false;
+                        queueDrained = true;
+                        return;
+                    }
+                }
+
+                changesDispatcher.dispatch(changes);
+            }
+        } finally {
+            if (!queueDrained) {
+                // subscriber has thrown an exception, it will be reported by Executor
+                // but we still need to deliver the rest of changes
+                final boolean hasMoreChanges;
+
+                synchronized (lock) {
+                    hasMoreChanges = !queue.isEmpty();
+                    deliveryScheduled = hasMoreChanges;
+                }
+
+                if (hasMoreChanges) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            // Executor was shut down or it's full -> deliver changes in current thread
+            run();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import rx.Observable;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.observers.SerializedSubscriber;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Delivers {@link Changes} only to subscribers of affected tables.
+ * Subscribers are indexed by table, so cost of dispatch depends on number
+ * of subscribers of affected tables instead of number of all subscribers.
+ * <p>
+ * Index is copy-on-write: (un)subscription copies it under the lock,
+ * dispatch reads current snapshot without locks.
+ * <p>
+ * Thread-safe. Hides RxJava from ClassLoader via separate class.
+ */
+final class ChangesDispatcher {
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Immutable snapshot: table -> immutable set of its subscribers, replaced under {@link #lock}.
+     */
+    @NonNull
+    private volatile Map<String, Set<Subscriber<Changes>>> subscribersByTable = Collections.emptyMap();
+
+    /**
+     * Creates {@link Observable} of {@link Changes} of passed tables.
+     *
+     * @param tables tables to observe.
+     * @return non-null, "Hot" and endless {@link Observable}.
+     */
+    @NonNull
+    Observable<Changes> observe(@NonNull Set<String> tables) {
+        return Observable.create(new OnSubscribeChanges(new HashSet<String>(tables)));
+    }
+
+    /**
+     * Delivers {@link Changes} to subscribers of affected tables,
+     * subscriber of multiple affected tables receives {@link Changes} only once.
+     *
+     * @param changes changes to deliver.
+     */
+    void dispatch(@NonNull Changes changes) {
+        final Map<String, Set<Subscriber<Changes>>> snapshot = subscribersByTable;
+
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        final Set<String> affectedTables = changes.affectedTables();
+        final Set<Subscriber<Changes>> receivers;
+
+        if (affectedTables.size() == 1) {
+            // fast path for the most common case, no copying
+            receivers = snapshot.get(affectedTables.iterator().next());
+        } else {
+            Set<Subscriber<Changes>> collected = null;
+
+            for (final String affectedTable : affectedTables) {
+                final Set<Subscriber<Changes>> subscribersOfTable = snapshot.get(affectedTable);
+
+                if (subscribersOfTable != null) {
+                    if (collected == null) {
+                        collected = new LinkedHashSet<Subscriber<Changes>>(subscribersOfTable);
+                    } else {
+                        collected.addAll(subscribersOfTable);
+                    }
+                }
+            }
+
+            receivers = collected;
+        }
+
+        if (receivers != null) {
+            for (final Subscriber<Changes> receiver : receivers) {
+                if (!receiver.isUnsubscribed()) {
+                    receiver.onNext(changes);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of tables that have at least one subscriber.
+     */
+    int numberOfObservedTables() {
+        return subscribersByTable.size();
+    }
+
+    private void add(@NonNull Set<String> tables, @NonNull Subscriber<Changes> subscriber) {
+        synchronized (lock) {
+            final Map<String, Set<Subscriber<Changes>>> newSubscribersByTable
+                    = new HashMap<String, Set<Subscriber<Changes>>>(subscribersByTable);
+
+            for (final String table : tables) {
+                final Set<Subscriber<Changes>> subscribersOfTable = newSubscribersByTable.get(table);
+
+                final Set<Subscriber<Changes>> newSubscribersOfTable = subscribersOfTable == null
+                        ? new HashSet<Subscriber<Changes>>(1)
+                        : new HashSet<Subscriber<Changes>>(subscribersOfTable);
+
+                newSubscribersOfTable.add(subscriber);
+                newSubscribersByTable.put(table, Collections.unmodifiableSet(newSubscribersOfTable));
+            }
+
+            subscribersByTable = Collections.unmodifiableMap(newSubscribersByTable);
+        }
+    }
+
+    private void remove(@NonNull Set<String> tables, @NonNull Subscriber<Changes> subscriber) {
+        synchronized (lock) {
+            final Map<String, Set<Subscriber<Changes>>> newSubscribersByTable
+                    = new HashMap<String, Set<Subscriber<Changes>>>(subscribersByTable);
+
+            for (final String table : tables) {
+                final Set<Subscriber<Changes>> subscribersOfTable = newSubscribersByTable.get(table);
+
+                if (subscribersOfTable == null) {
+                    continue;
+                }
+
+                final Set<Subscriber<Changes>> newSubscribersOfTable = new HashSet<Subscriber<Changes>>(subscribersOfTable);
+                newSubscribersOfTable.remove(subscriber);
+
+                if (newSubscribersOfTable.isEmpty()) {
+                    newSubscribersByTable.remove(table);
+                } else {
+                    newSubscribersByTable.put(table, Collections.unmodifiableSet(newSubscribersOfTable));
+                }
+            }
+
+            subscribersByTable = Collections.unmodifiableMap(newSubscribersByTable);
+        }
+    }
+
+    private final class OnSubscribeChanges implements Observable.OnSubscribe<Changes> {
+
+        @NonNull
+        private final Set<String> tables;
+
+        OnSubscribeChanges(@NonNull Set<String> tables) {
+            this.tables = tables;
+        }
+
+        @Override
+        public void call(Subscriber<? super Changes> subscriber) {
+            // changes can be dispatched from different threads
+            final Subscriber<Changes> serializedSubscriber = new SerializedSubscriber<Changes>(subscriber);
+
+            subscriber.add(Subscriptions.create(new Action0() {
+                @Override
+                public void call() {
+                    remove(tables, serializedSubscriber);
+                }
+            }));
+
+            add(tables, serializedSubscriber);
+
+            if (subscriber.isUnsubscribed()) {
+                // unsubscribed before it was added -> action above was already executed
+                remove(tables, serializedSubscriber);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.observers.SerializedSubscriber;
+import rx.schedulers.Schedulers;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Collapses bursts of {@link Changes} into one merged {@link Changes}:
+ * first {@link Changes} opens a window, all {@link Changes} received during the window are merged
+ * and emitted at the end of the window on the {@link Scheduler}.
+ * <p>
+ * Unlike debounce, continuous stream of changes can not delay emission for longer than one window.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ */
+final class CoalesceChangesOperator implements Observable.Operator<Changes, Changes> {
+
+    private final long windowMillis;
+
+    @NonNull
+    private final Scheduler scheduler;
+
+    CoalesceChangesOperator(long windowMillis, @NonNull Scheduler scheduler) {
+        this.windowMillis = windowMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Applies coalescing to the {@link Observable}.
+     *
+     * @param changes       changes to coalesce.
+     * @param windowMillis  duration of the window.
+     * @param readScheduler scheduler for reads of {@link com.pushtorefresh.storio.sqlite.StorIOSQLite},
+     *                      merged {@link Changes} are emitted on it because subscribers usually re-query the db.
+     *                      If {@code null}, {@link Schedulers#computation()} is used only as a timer.
+     * @return coalesced changes.
+     */
+    @NonNull
+    static Observable<Changes> apply(@NonNull Observable<Changes> changes, long windowMillis, @Nullable Scheduler readScheduler) {
+        return changes
+                .lift(new CoalesceChangesOperator(windowMillis, readScheduler != null ? readScheduler : Schedulers.computation()));
+    }
+
+    @Override
+    public Subscriber<? super Changes> call(Subscriber<? super Changes> child) {
+        final Scheduler.Worker worker = scheduler.createWorker();
+        child.add(worker);
+        return new CoalescingSubscriber(new SerializedSubscriber<Changes>(child), worker, windowMillis);
+    }
+
+    static final class CoalescingSubscriber extends Subscriber<Changes> implements Action0 {
+
+        @NonNull
+        private final Subscriber<Changes> child;
+
+        @NonNull
+        private final Scheduler.Worker worker;
+
+        private final long windowMillis;
+
+        @NonNull
+        private final Object lock = new Object();
+
+        /**
+         * {@code null} if there is no open window, guarded by {@link #lock}.
+         */
+        @Nullable
+        private List<Changes> pendingChanges;
+
+        CoalescingSubscriber(@NonNull Subscriber<Changes> child, @NonNull Scheduler.Worker worker, long windowMillis) {
+            super(child);
+            this.child = child;
+            this.worker = worker;
+            this.windowMillis = windowMillis;
+        }
+
+        @Override
+        public void onNext(Changes changes) {
+            final boolean windowOpened;
+
+            synchronized (lock) {
+                if (pendingChanges == null) {
+                    pendingChanges = new ArrayList<Changes>();
+                    windowOpened = true;
+                } else {
+                    windowOpened = false;
+                }
+
+                pendingChanges.add(changes);
+            }
+
+            if (windowOpened) {
+                worker.schedule(this, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * End of the window.
+         */
+        @Override
+        public void call() {
+            final List<Changes> changes;
+
+            synchronized (lock) {
+                changes = pendingChanges;
+                pendingChanges = null;
+            }
+
+            if (changes != null) {
+                child.onNext(Changes.merge(changes));
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            // deliver pending changes without waiting for the end of the window
+            call();
+            child.onCompleted();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+
+            child.onError(e);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
+import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LRU cache of compiled {@link SQLiteStatement}s for insert, update and delete.
+ * <p>
+ * Statements are keyed by type of the statement, table, sorted set of columns
+ * and shape of the WHERE clause, so same statement is reused for all calls
+ * that differ only by values, which are bound per call.
+ * <p>
+ * {@link SQLiteStatement} can not be shared between threads, so statement is removed
+ * from the cache while it's in use and returned back after execution. Lock is never held
+ * while statement is executed to not block other threads while SQLiteDatabase
+ * waits for its own locks (otherwise we can get a deadlock with transaction of another thread).
+ * <p>
+ * Thread-safe.
+ */
+final class CompiledStatementsCache {
+
+    private static final int TYPE_INSERT = 0;
+    private static final int TYPE_UPDATE = 1;
+    private static final int TYPE_DELETE = 2;
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    @NonNull
+    private final LinkedHashMap<Key, SQLiteStatement> statements;
+
+    /**
+     * Database for which statements were compiled, guarded by {@link #lock}.
+     */
+    @Nullable
+    private SQLiteDatabase database;
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private long hitCount;
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private long missCount;
+
+    CompiledStatementsCache(final int maxSize) {
+        // access order = true to get LRU eviction
+        statements = new LinkedHashMap<Key, SQLiteStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(@NonNull Map.Entry<Key, SQLiteStatement> eldest) {
+                if (size() > maxSize) {
+                    eldest.getValue().close();
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+        };
+    }
+
+    @WorkerThread
+    long insert(@NonNull SQLiteDatabase db, @NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues) {
+        final String[] columns = sortedColumns(contentValues);
+
+        final Key key = new Key(TYPE_INSERT, insertQuery.table(), columns, insertQuery.nullColumnHack());
+        final SQLiteStatement statement = acquire(db, key);
+
+        try {
+            bindContentValues(statement, contentValues, columns);
+            return statement.executeInsert();
+        } finally {
+            release(db, key, statement);
+        }
+    }
+
+    @WorkerThread
+    <T> long insert(@NonNull SQLiteDatabase db, @NonNull InsertQuery insertQuery, @NonNull String[] columns,
+                    @NonNull T object, @NonNull StatementBinder<T> binder) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty columns");
+        }
+
+        // order of columns is defined by the binder, so they are not sorted
+        final Key key = new Key(TYPE_INSERT, insertQuery.table(), columns, insertQuery.nullColumnHack());
+        final SQLiteStatement statement = acquire(db, key);
+
+        try {
+            binder.bind(statement, object);
+            return statement.executeInsert();
+        } finally {
+            release(db, key, statement);
+        }
+    }
+
+    @WorkerThread
+    int update(@NonNull SQLiteDatabase db, @NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
+        final String[] columns = sortedColumns(contentValues);
+
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty values");
+        }
+
+        final Key key = new Key(TYPE_UPDATE, updateQuery.table(), columns, updateQuery.where());
+        final SQLiteStatement statement = acquire(db, key);
+
+        try {
+            bindContentValues(statement, contentValues, columns);
+            bindWhereArgs(statement, columns.length, updateQuery.whereArgs());
+            return statement.executeUpdateDelete();
+        } finally {
+            release(db, key, statement);
+        }
+    }
+
+    @WorkerThread
+    <T> int update(@NonNull SQLiteDatabase db, @NonNull UpdateQuery updateQuery, @NonNull String[] columns,
+                   @NonNull T object, @NonNull StatementBinder<T> binder) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty columns");
+        }
+
+        // order of columns is defined by the binder, so they are not sorted
+        final Key key = new Key(TYPE_UPDATE, updateQuery.table(), columns, updateQuery.where());
+        final SQLiteStatement statement = acquire(db, key);
+
+        try {
+            binder.bind(statement, object);
+            bindWhereArgs(statement, columns.length, updateQuery.whereArgs());
+            return statement.executeUpdateDelete();
+        } finally {
+            release(db, key, statement);
+        }
+    }
+
+    @WorkerThread
+    int delete(@NonNull SQLiteDatabase db, @NonNull DeleteQuery deleteQuery) {
+        final Key key = new Key(TYPE_DELETE, deleteQuery.table(), null, deleteQuery.where());
+        final SQLiteStatement statement = acquire(db, key);
+
+        try {
+            bindWhereArgs(statement, 0, deleteQuery.whereArgs());
+            return statement.executeUpdateDelete();
+        } finally {
+            release(db, key, statement);
+        }
+    }
+
+    long hitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    long missCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Closes and removes all cached statements.
+     */
+    void clear() {
+        synchronized (lock) {
+            closeAllStatements();
+            database = null;
+        }
+    }
+
+    @NonNull
+    private SQLiteStatement acquire(@NonNull SQLiteDatabase db, @NonNull Key key) {
+        synchronized (lock) {
+            if (database != db) {
+                // SQLiteOpenHelper was closed and reopened, statements of previous db are not valid anymore
+                closeAllStatements();
+                database = db;
+            }
+
+            final SQLiteStatement statement = statements.remove(key);
+
+            if (statement != null) {
+                hitCount++;
+                return statement;
+            }
+
+            missCount++;
+        }
+
+        return db.compileStatement(key.sql());
+    }
+
+    private void release(@NonNull SQLiteDatabase db, @NonNull Key key, @NonNull SQLiteStatement statement) {
+        statement.clearBindings();
+
+        synchronized (lock) {
+            // If another thread has already returned same statement -> we don't need a duplicate
+            if (database == db && !statements.containsKey(key)) {
+                statements.put(key, statement);
+                return;
+            }
+        }
+
+        statement.close();
+    }
+
+    /**
+     * Access to this method MUST BE guarded by synchronization on {@link #lock}.
+     */
+    private void closeAllStatements() {
+        final Iterator<SQLiteStatement> iterator = statements.values().iterator();
+
+        while (iterator.hasNext()) {
+            iterator.next().close();
+            iterator.remove();
+        }
+    }
+
+    @NonNull
+    private static String[] sortedColumns(@NonNull ContentValues contentValues) {
+        final Set<String> keySet = contentValues.keySet();
+        final String[] columns = keySet.toArray(new String[keySet.size()]);
+        Arrays.sort(columns);
+        return columns;
+    }
+
+    /**
+     * Builds SQL of insert statement with one argument per column, in passed order.
+     *
+     * @param table   table.
+     * @param columns non-empty columns.
+     * @return SQL of insert statement.
+     */
+    @NonNull
+    static String insertSql(@NonNull String table, @NonNull String[] columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty columns");
+        }
+
+        final StringBuilder sql = new StringBuilder(128);
+        appendInsert(sql, table, columns);
+        return sql.toString();
+    }
+
+    /**
+     * Builds SQL of update statement with one argument per column, in passed order,
+     * followed by arguments of the WHERE clause.
+     *
+     * @param table   table.
+     * @param columns non-empty columns.
+     * @param where   WHERE clause or empty string.
+     * @return SQL of update statement.
+     */
+    @NonNull
+    static String updateSql(@NonNull String table, @NonNull String[] columns, @NonNull String where) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Empty columns");
+        }
+
+        final StringBuilder sql = new StringBuilder(128);
+        appendUpdate(sql, table, columns, where);
+        return sql.toString();
+    }
+
+    private static void appendInsert(@NonNull StringBuilder sql, @NonNull String table, @NonNull String[] columns) {
+        sql.append("INSERT INTO ").append(table).append(" (");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? "," : "").append(columns[i]);
+        }
+
+        sql.append(") VALUES (");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+
+        sql.append(')');
+    }
+
+    private static void appendUpdate(@NonNull StringBuilder sql, @NonNull String table, @NonNull String[] columns, @Nullable String where) {
+        sql.append("UPDATE ").append(table).append(" SET ");
+
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i > 0 ? "," : "").append(columns[i]).append("=?");
+        }
+
+        if (where != null && where.length() > 0) {
+            sql.append(" WHERE ").append(where);
+        }
+    }
+
+    private static void bindContentValues(@NonNull SQLiteStatement statement, @NonNull ContentValues contentValues, @NonNull String[] columns) {
+        for (int i = 0; i < columns.length; i++) {
+            bindValue(statement, i + 1, contentValues.get(columns[i]));
+        }
+    }
+
+    static void bindWhereArgs(@NonNull SQLiteStatement statement, int offset, @NonNull List<String> whereArgs) {
+        for (int i = 0; i < whereArgs.size(); i++) {
+            final String whereArg = whereArgs.get(i);
+
+            if (whereArg == null) {
+                statement.bindNull(offset + i + 1);
+            } else {
+                statement.bindString(offset + i + 1, whereArg);
+            }
+        }
+    }
+
+    // Same conversions as SQLiteDatabase uses for ContentValues
+    private static void bindValue(@NonNull SQLiteStatement statement, int index, @Nullable Object value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else if (value instanceof Double || value instanceof Float) {
+            statement.bindDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            statement.bindLong(index, ((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            statement.bindLong(index, (Boolean) value ? 1 : 0);
+        } else if (value instanceof byte[]) {
+            statement.bindBlob(index, (byte[]) value);
+        } else {
+            statement.bindString(index, value.toString());
+        }
+    }
+
+    private static final class Key {
+
+        private final int type;
+
+        @NonNull
+        private final String table;
+
+        @Nullable
+        private final String[] columns;
+
+        /**
+         * WHERE clause for update and delete, nullColumnHack for insert.
+         */
+        @Nullable
+        private final String extra;
+
+        private final int hashCode;
+
+        Key(int type, @NonNull String table, @Nullable String[] columns, @Nullable String extra) {
+            this.type = type;
+            this.table = table;
+            this.columns = columns;
+            this.extra = extra;
+
+            int result = type;
+            result = 31 * result + table.hashCode();
+            result = 31 * result + Arrays.hashCode(columns);
+            result = 31 * result + (extra != null ? extra.hashCode() : 0);
+            hashCode = result;
+        }
+
+        @NonNull
+        String sql() {
+            final StringBuilder sql = new StringBuilder(128);
+
+            switch (type) {
+                case TYPE_INSERT:
+                    //noinspection ConstantConditions
+                    if (columns.length == 0) {
+                        // Same as SQLiteDatabase does for empty ContentValues
+                        sql.append("INSERT INTO ").append(table).append(" (")
+                                .append(extra).append(") VALUES (NULL)");
+                    } else {
+                        appendInsert(sql, table, columns);
+                    }
+                    break;
+
+                case TYPE_UPDATE:
+                    //noinspection ConstantConditions
+                    appendUpdate(sql, table, columns, extra);
+                    break;
+
+                default:
+                    sql.append("DELETE FROM ").append(table);
+                    appendWhere(sql);
+                    break;
+            }
+
+            return sql.toString();
+        }
+
+        private void appendWhere(@NonNull StringBuilder sql) {
+            if (extra != null && extra.length() > 0) {
+                sql.append(" WHERE ").append(extra);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return type == key.type
+                    && hashCode == key.hashCode
+                    && table.equals(key.table)
+                    && Arrays.equals(columns, key.columns)
+                    && (extra != null ? extra.equals(key.extra) : key.extra == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Journal mode and PRAGMA settings applied by {@link DefaultStorIOSQLite}
+ * to the database before its first usage.
+ * <p>
+ * Per-connection PRAGMAs are applied after write-ahead logging is enabled,
+ * so they land on the primary connection which performs all writes.
+ * Configuration is applied before any other connection is opened, otherwise
+ * {@link SQLiteDatabase#enableWriteAheadLogging()} throws {@link IllegalStateException}.
+ * <p>
+ * Thread-safe.
+ */
+final class DatabaseConfiguration {
+
+    private final boolean writeAheadLoggingEnabled;
+
+    @Nullable
+    private final DefaultStorIOSQLite.SynchronousMode synchronousMode;
+
+    @Nullable
+    private final Integer pageSize;
+
+    @Nullable
+    private final Integer cacheSize;
+
+    @Nullable
+    private final Long mmapSize;
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Database to which configuration was applied, helps to apply it again
+     * if {@link android.database.sqlite.SQLiteOpenHelper} reopens the database.
+     */
+    @Nullable
+    private volatile SQLiteDatabase configuredDatabase;
+
+    DatabaseConfiguration(boolean writeAheadLoggingEnabled,
+                          @Nullable DefaultStorIOSQLite.SynchronousMode synchronousMode,
+                          @Nullable Integer pageSize,
+                          @Nullable Integer cacheSize,
+                          @Nullable Long mmapSize) {
+        this.writeAheadLoggingEnabled = writeAheadLoggingEnabled;
+        this.synchronousMode = synchronousMode;
+        this.pageSize = pageSize;
+        this.cacheSize = cacheSize;
+        this.mmapSize = mmapSize;
+    }
+
+    /**
+     * Checks whether configuration changes nothing, so it can be skipped.
+     *
+     * @return {@code true} if no setting was specified.
+     */
+    boolean isEmpty() {
+        return !writeAheadLoggingEnabled
+                && synchronousMode == null
+                && pageSize == null
+                && cacheSize == null
+                && mmapSize == null;
+    }
+
+    /**
+     * Applies configuration if it was not applied to this database yet.
+     * <p>
+     * Read-only database (returned by {@code getReadableDatabase()} when database can not be opened for writing)
+     * is not configured, configuration will be applied to the writable one.
+     *
+     * @param db database to configure.
+     * @return passed database.
+     */
+    @NonNull
+    SQLiteDatabase applyIfNeeded(@NonNull SQLiteDatabase db) {
+        if (configuredDatabase == db || db.isReadOnly()) {
+            return db;
+        }
+
+        synchronized (lock) {
+            if (configuredDatabase != db) {
+                apply(db);
+                configuredDatabase = db;
+            }
+        }
+
+        return db;
+    }
+
+    private void apply(@NonNull SQLiteDatabase db) {
+        // page_size can not be changed after switching to WAL
+        if (pageSize != null) {
+            db.execSQL("PRAGMA page_size = " + pageSize);
+        }
+
+        // enabling of WAL resets synchronous mode, so other PRAGMAs are applied after it
+        if (writeAheadLoggingEnabled) {
+            db.enableWriteAheadLogging();
+        }
+
+        if (synchronousMode != null) {
+            db.execSQL("PRAGMA synchronous = " + synchronousMode.name());
+        }
+
+        if (cacheSize != null) {
+            db.execSQL("PRAGMA cache_size = " + cacheSize);
+        }
+
+        if (mmapSize != null) {
+            // returns new value as a row, so it can not be executed via execSQL()
+            final Cursor cursor = db.rawQuery("PRAGMA mmap_size = " + mmapSize, null);
+
+            try {
+                cursor.moveToFirst();
+            } finally {
+                cursor.close();
+            }
+        }
+    }
+}
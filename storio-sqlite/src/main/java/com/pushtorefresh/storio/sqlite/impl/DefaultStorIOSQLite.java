@@ -2,15 +2,18 @@ package com.pushtorefresh.storio.sqlite.impl;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
-import com.pushtorefresh.storio.internal.ChangesBus;
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.internal.PendingChanges;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -18,14 +21,18 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import rx.Observable;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.RX_JAVA_IS_IN_THE_CLASS_PATH;
@@ -40,11 +47,106 @@ import static java.util.Collections.unmodifiableMap;
  */
 public class DefaultStorIOSQLite extends StorIOSQLite {
 
+    /**
+     * Default max number of compiled statements kept by {@link DefaultStorIOSQLite}.
+     */
+    public static final int DEFAULT_COMPILED_STATEMENTS_CACHE_SIZE = 32;
+
+    /**
+     * Default max number of {@link Changes} waiting for asynchronous delivery,
+     * see {@link CompleteBuilder#changesDeliveryExecutor(Executor)}.
+     */
+    public static final int DEFAULT_MAX_QUEUED_CHANGES = 64;
+
+    /**
+     * Default max number of threads that execute read operations,
+     * same as default size of the pool of connections of {@link SQLiteDatabase}
+     * with write-ahead logging.
+     */
+    public static final int DEFAULT_MAX_READ_THREADS = 4;
+
+    /**
+     * Values of {@code PRAGMA synchronous}, see
+     * <a href="https://www.sqlite.org/pragma.html#pragma_synchronous">SQLite documentation</a>.
+     */
+    public enum SynchronousMode {
+
+        /**
+         * No syncs, fastest, database can be corrupted after power loss.
+         */
+        OFF,
+
+        /**
+         * Syncs at critical moments, with write-ahead logging database stays consistent
+         * after power loss but last commits can be rolled back.
+         */
+        NORMAL,
+
+        /**
+         * Syncs on each commit, default mode of SQLite.
+         */
+        FULL
+    }
+
     @NonNull
     private final SQLiteOpenHelper sqLiteOpenHelper;
 
-    @NonNull
-    private final ChangesBus<Changes> changesBus = new ChangesBus<Changes>(RX_JAVA_IS_IN_THE_CLASS_PATH);
+    /**
+     * {@code null} if database is used as {@link SQLiteOpenHelper} opens it.
+     */
+    @Nullable
+    private final DatabaseConfiguration databaseConfiguration;
+
+    /**
+     * {@code null} if cache of compiled statements is disabled.
+     */
+    @Nullable
+    private final CompiledStatementsCache compiledStatementsCache;
+
+    /**
+     * {@code 0} if changes are not coalesced.
+     */
+    private final long changesCoalescingWindowMillis;
+
+    /**
+     * {@code null} if RxJava is not in the ClassPath.
+     */
+    @Nullable
+    private final ChangesDispatcher changesDispatcher = RX_JAVA_IS_IN_THE_CLASS_PATH
+            ? new ChangesDispatcher()
+            : null;
+
+    /**
+     * {@code null} if reads should not be scheduled or RxJava is not in the ClassPath.
+     */
+    @Nullable
+    private final Scheduler readScheduler;
+
+    /**
+     * {@code null} if writes should not be scheduled or RxJava is not in the ClassPath.
+     */
+    @Nullable
+    private final Scheduler writeScheduler;
+
+    /**
+     * Executor of default read scheduler, created and shut down by this instance,
+     * {@code null} if read scheduler was specified or RxJava is not in the ClassPath.
+     */
+    @Nullable
+    private final ExecutorService readLaneExecutor;
+
+    /**
+     * Executor of default write scheduler, created and shut down by this instance,
+     * {@code null} if write scheduler was specified or RxJava is not in the ClassPath.
+     */
+    @Nullable
+    private final ExecutorService writeLaneExecutor;
+
+    /**
+     * {@code null} if changes are delivered synchronously.
+     */
+    @Nullable
+    private final AsyncChangesDelivery asyncChangesDelivery;
 
     /**
      * Implementation of {@link StorIOSQLite.Internal}.
@@ -53,8 +155,60 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     private final Internal internal;
 
     protected DefaultStorIOSQLite(@NonNull SQLiteOpenHelper sqLiteOpenHelper, @Nullable Map<Class<?>, SQLiteTypeMapping<?>> typesMapping) {
-        this.sqLiteOpenHelper = sqLiteOpenHelper;
-        internal = new InternalImpl(typesMapping);
+        this(new CompleteBuilder(sqLiteOpenHelper, typesMapping));
+    }
+
+    /**
+     * Creates {@link DefaultStorIOSQLite} with all params of the builder.
+     *
+     * @param builder builder with params.
+     */
+    protected DefaultStorIOSQLite(@NonNull CompleteBuilder builder) {
+        sqLiteOpenHelper = builder.sqLiteOpenHelper;
+
+        final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration(
+                builder.writeAheadLoggingEnabled,
+                builder.synchronousMode,
+                builder.pageSize,
+                builder.cacheSize,
+                builder.mmapSize
+        );
+
+        this.databaseConfiguration = databaseConfiguration.isEmpty()
+                ? null
+                : databaseConfiguration;
+
+        compiledStatementsCache = builder.compiledStatementsCacheSize > 0
+                ? new CompiledStatementsCache(builder.compiledStatementsCacheSize)
+                : null;
+        changesCoalescingWindowMillis = builder.changesCoalescingWindowMillis;
+        asyncChangesDelivery = builder.changesDeliveryExecutor != null && changesDispatcher != null
+                ? new AsyncChangesDelivery(builder.changesDeliveryExecutor, changesDispatcher, builder.maxQueuedChanges)
+                : null;
+        if (RX_JAVA_IS_IN_THE_CLASS_PATH) {
+            if (builder.readSchedulerSpecified) {
+                readLaneExecutor = null;
+                readScheduler = builder.readScheduler;
+            } else {
+                readLaneExecutor = ExecutionLanes.newReadExecutor(builder.maxReadThreads);
+                readScheduler = ExecutionLanes.scheduler(readLaneExecutor);
+            }
+
+            if (builder.writeSchedulerSpecified) {
+                writeLaneExecutor = null;
+                writeScheduler = builder.writeScheduler;
+            } else {
+                writeLaneExecutor = ExecutionLanes.newWriteExecutor();
+                writeScheduler = ExecutionLanes.scheduler(writeLaneExecutor);
+            }
+        } else {
+            readLaneExecutor = null;
+            writeLaneExecutor = null;
+            readScheduler = null;
+            writeScheduler = null;
+        }
+
+        internal = new InternalImpl(builder.typesMapping);
     }
 
     /**
@@ -63,14 +217,41 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     @Override
     @NonNull
     public Observable<Changes> observeChangesInTables(@NonNull final Set<String> tables) {
-        final Observable<Changes> rxBus = changesBus.asObservable();
-
-        if (rxBus == null) {
+        if (changesDispatcher == null) {
             throw new IllegalStateException("Observing changes in StorIOSQLite requires RxJava");
         }
 
-        // indirect usage of RxJava filter() required to avoid problems with ClassLoader when RxJava is not in ClassPath
-        return ChangesFilter.apply(rxBus, tables);
+        // changes are delivered only to subscribers of affected tables
+        final Observable<Changes> changes = changesDispatcher.observe(tables);
+
+        return changesCoalescingWindowMillis > 0
+                ? CoalesceChangesOperator.apply(changes, changesCoalescingWindowMillis, readScheduler)
+                : changes;
+    }
+
+    /**
+     * Gets {@link Scheduler} for read operations: bounded pool of
+     * {@link #DEFAULT_MAX_READ_THREADS} threads or scheduler specified via
+     * {@link CompleteBuilder#readScheduler(Scheduler)} or {@link CompleteBuilder#defaultScheduler(Scheduler)}.
+     *
+     * @return scheduler for reads or {@code null} if reads should not be scheduled.
+     */
+    @Nullable
+    @Override
+    public Scheduler readScheduler() {
+        return readScheduler;
+    }
+
+    /**
+     * Gets {@link Scheduler} for write operations: single thread or scheduler specified via
+     * {@link CompleteBuilder#writeScheduler(Scheduler)} or {@link CompleteBuilder#defaultScheduler(Scheduler)}.
+     *
+     * @return scheduler for writes or {@code null} if writes should not be scheduled.
+     */
+    @Nullable
+    @Override
+    public Scheduler writeScheduler() {
+        return writeScheduler;
     }
 
     /**
@@ -83,7 +264,34 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     }
 
     /**
-     * Closes underlying {@link SQLiteOpenHelper}.
+     * Returns number of insert, update and delete calls
+     * that reused already compiled statement.
+     *
+     * @return number of hits of the cache of compiled statements,
+     * {@code 0} if cache is disabled.
+     */
+    public long compiledStatementsCacheHitCount() {
+        return compiledStatementsCache != null
+                ? compiledStatementsCache.hitCount()
+                : 0;
+    }
+
+    /**
+     * Returns number of insert, update and delete calls
+     * that had to compile new statement.
+     *
+     * @return number of misses of the cache of compiled statements,
+     * {@code 0} if cache is disabled.
+     */
+    public long compiledStatementsCacheMissCount() {
+        return compiledStatementsCache != null
+                ? compiledStatementsCache.missCount()
+                : 0;
+    }
+
+    /**
+     * Closes underlying {@link SQLiteOpenHelper} and shuts down default schedulers
+     * created by this instance, schedulers passed to the builder are not affected.
      * <p>
      * All calls to this instance of {@link StorIOSQLite}
      * after call to this method can produce exceptions
@@ -91,7 +299,37 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     @Override
     public void close() throws IOException {
+        if (compiledStatementsCache != null) {
+            compiledStatementsCache.clear();
+        }
+
         sqLiteOpenHelper.close();
+
+        if (readLaneExecutor != null) {
+            readLaneExecutor.shutdown();
+        }
+
+        if (writeLaneExecutor != null) {
+            writeLaneExecutor.shutdown();
+        }
+    }
+
+    @NonNull
+    private SQLiteDatabase writableDatabase() {
+        final SQLiteDatabase db = sqLiteOpenHelper.getWritableDatabase();
+
+        return databaseConfiguration != null
+                ? databaseConfiguration.applyIfNeeded(db)
+                : db;
+    }
+
+    @NonNull
+    private SQLiteDatabase readableDatabase() {
+        final SQLiteDatabase db = sqLiteOpenHelper.getReadableDatabase();
+
+        return databaseConfiguration != null
+                ? databaseConfiguration.applyIfNeeded(db)
+                : db;
     }
 
     /**
@@ -135,14 +373,55 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     public static final class CompleteBuilder {
 
         @NonNull
-        private final SQLiteOpenHelper sqLiteOpenHelper;
+        final SQLiteOpenHelper sqLiteOpenHelper;
+
+        @Nullable
+        Map<Class<?>, SQLiteTypeMapping<?>> typesMapping;
+
+        int compiledStatementsCacheSize = DEFAULT_COMPILED_STATEMENTS_CACHE_SIZE;
+
+        long changesCoalescingWindowMillis = 0;
+
+        @Nullable
+        Executor changesDeliveryExecutor;
 
-        private Map<Class<?>, SQLiteTypeMapping<?>> typesMapping;
+        int maxQueuedChanges = DEFAULT_MAX_QUEUED_CHANGES;
+
+        boolean writeAheadLoggingEnabled;
+
+        @Nullable
+        SynchronousMode synchronousMode;
+
+        @Nullable
+        Integer pageSize;
+
+        @Nullable
+        Integer cacheSize;
+
+        @Nullable
+        Long mmapSize;
+
+        @Nullable
+        Scheduler readScheduler;
+
+        boolean readSchedulerSpecified;
+
+        @Nullable
+        Scheduler writeScheduler;
+
+        boolean writeSchedulerSpecified;
+
+        int maxReadThreads = DEFAULT_MAX_READ_THREADS;
 
         CompleteBuilder(@NonNull SQLiteOpenHelper sqLiteOpenHelper) {
             this.sqLiteOpenHelper = sqLiteOpenHelper;
         }
 
+        CompleteBuilder(@NonNull SQLiteOpenHelper sqLiteOpenHelper, @Nullable Map<Class<?>, SQLiteTypeMapping<?>> typesMapping) {
+            this.sqLiteOpenHelper = sqLiteOpenHelper;
+            this.typesMapping = typesMapping;
+        }
+
         /**
          * Adds {@link SQLiteTypeMapping} for some type.
          *
@@ -165,6 +444,271 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             return this;
         }
 
+        /**
+         * Optional: Specifies max number of compiled statements that will be reused
+         * by insert, update and delete. Statements are keyed by table, set of columns
+         * and WHERE clause, least recently used statements are closed first.
+         * <p>
+         * Default value is {@link DefaultStorIOSQLite#DEFAULT_COMPILED_STATEMENTS_CACHE_SIZE},
+         * {@code 0} disables the cache.
+         *
+         * @param compiledStatementsCacheSize non-negative max number of cached statements.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder compiledStatementsCacheSize(int compiledStatementsCacheSize) {
+            if (compiledStatementsCacheSize < 0) {
+                throw new IllegalArgumentException("compiledStatementsCacheSize should be >= 0, but was " + compiledStatementsCacheSize);
+            }
+
+            this.compiledStatementsCacheSize = compiledStatementsCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies window for coalescing of changes delivered to each subscriber of
+         * {@link StorIOSQLite#observeChangesInTables(Set)} (and so, to each Observable of Get Operation).
+         * <p>
+         * First change opens a window, all changes of observed tables received during the window
+         * are merged into one {@link Changes} which is emitted at the end of the window on
+         * the scheduler for reads (see {@link #readScheduler(Scheduler)}), or on the thread of
+         * {@link rx.schedulers.Schedulers#computation()} if there is no such scheduler.
+         * So a burst of non-transactional writes triggers one re-query per subscriber
+         * instead of one re-query per write,
+         * at the cost of delivering changes later for up to one window.
+         * <p>
+         * By default, changes are not coalesced and delivered immediately.
+         *
+         * @param window   non-negative duration of the window, {@code 0} disables coalescing,
+         *                 positive window should be at least one millisecond.
+         * @param timeUnit unit of the window.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesCoalescingWindow(long window, @NonNull TimeUnit timeUnit) {
+            checkNotNull(timeUnit, "Please specify time unit");
+
+            if (window < 0) {
+                throw new IllegalArgumentException("changesCoalescingWindow should be >= 0, but was " + window);
+            }
+
+            final long windowMillis = timeUnit.toMillis(window);
+
+            // otherwise window would be truncated to 0 and silently disable coalescing
+            if (window > 0 && windowMillis == 0) {
+                throw new IllegalArgumentException("changesCoalescingWindow should be 0 or at least 1 millisecond, but was "
+                        + window + " " + timeUnit);
+            }
+
+            changesCoalescingWindowMillis = windowMillis;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@link Executor} for delivery of changes to subscribers of
+         * {@link StorIOSQLite#observeChangesInTables(Set)}, so thread that committed a write does not
+         * run subscribers and returns immediately, and slow subscriber can not throttle writes.
+         * <p>
+         * Changes are delivered one by one in order of commits, with at most one task in the
+         * {@link Executor} at a time, so single thread executor is not required.
+         * Up to {@link DefaultStorIOSQLite#DEFAULT_MAX_QUEUED_CHANGES} changes can wait for delivery,
+         * if queue is full, new changes are merged into the last queued one.
+         * <p>
+         * By default, changes are delivered synchronously in the thread that made them.
+         *
+         * @param changesDeliveryExecutor executor for delivery of changes or {@code null} for synchronous delivery.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesDeliveryExecutor(@Nullable Executor changesDeliveryExecutor) {
+            return changesDeliveryExecutor(changesDeliveryExecutor, DEFAULT_MAX_QUEUED_CHANGES);
+        }
+
+        /**
+         * Optional: Same as {@link #changesDeliveryExecutor(Executor)} with custom bound of the queue.
+         *
+         * @param changesDeliveryExecutor executor for delivery of changes or {@code null} for synchronous delivery.
+         * @param maxQueuedChanges        positive max number of changes waiting for delivery.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesDeliveryExecutor(@Nullable Executor changesDeliveryExecutor, int maxQueuedChanges) {
+            if (maxQueuedChanges <= 0) {
+                throw new IllegalArgumentException("maxQueuedChanges should be > 0, but was " + maxQueuedChanges);
+            }
+
+            this.changesDeliveryExecutor = changesDeliveryExecutor;
+            this.maxQueuedChanges = maxQueuedChanges;
+            return this;
+        }
+
+        /**
+         * Optional: Enables write-ahead logging, so readers (for example re-queries of Get Operations
+         * on {@link rx.schedulers.Schedulers#io()}) do not block behind writers and writer does not block
+         * behind readers: {@link SQLiteDatabase} keeps a pool of connections and runs
+         * read-only queries on them in parallel with a transaction on the primary connection.
+         * <p>
+         * Size of the pool is defined by Android and can not be changed via public API.
+         * <p>
+         * Write-ahead logging is enabled when database is used by {@link StorIOSQLite} for the first time,
+         * you can also enable it in {@link SQLiteOpenHelper#onConfigure(SQLiteDatabase)} on API 16+.
+         * Disabled by default (database keeps mode in which it was opened).
+         *
+         * @param writeAheadLoggingEnabled {@code true} to enable write-ahead logging.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder writeAheadLoggingEnabled(boolean writeAheadLoggingEnabled) {
+            this.writeAheadLoggingEnabled = writeAheadLoggingEnabled;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@code PRAGMA synchronous} of the connection that performs writes.
+         * {@link SynchronousMode#NORMAL} together with write-ahead logging
+         * makes commits much cheaper while keeping database consistent.
+         * <p>
+         * By default, mode is not changed.
+         *
+         * @param synchronousMode mode of syncs to disk.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder synchronousMode(@NonNull SynchronousMode synchronousMode) {
+            checkNotNull(synchronousMode, "Please specify synchronous mode");
+            this.synchronousMode = synchronousMode;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@code PRAGMA page_size}. Page size takes effect only
+         * for new database (before first table was created) or after {@code VACUUM}
+         * and can not be changed after switching to write-ahead logging.
+         * <p>
+         * By default, page size is not changed.
+         *
+         * @param pageSize size of the page in bytes, power of two between 512 and 65536.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder pageSize(int pageSize) {
+            if (pageSize < 512 || pageSize > 65536 || Integer.bitCount(pageSize) != 1) {
+                throw new IllegalArgumentException("pageSize should be power of two between 512 and 65536, but was " + pageSize);
+            }
+
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@code PRAGMA cache_size} of the connection that performs writes.
+         * <p>
+         * By default, size of the cache is not changed.
+         *
+         * @param cacheSize positive number of pages or negative size in KiB, as defined by SQLite.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@code PRAGMA mmap_size} of the connection that performs writes,
+         * so reads are served from memory-mapped file instead of copying pages.
+         * Ignored by SQLite versions without memory-mapped I/O.
+         * <p>
+         * By default, memory-mapped I/O is not changed.
+         *
+         * @param mmapSize non-negative max number of bytes to map, {@code 0} disables memory-mapped I/O.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder mmapSize(long mmapSize) {
+            if (mmapSize < 0) {
+                throw new IllegalArgumentException("mmapSize should be >= 0, but was " + mmapSize);
+            }
+
+            this.mmapSize = mmapSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@link Scheduler} for Observables of all operations,
+         * same as {@link #readScheduler(Scheduler)} and {@link #writeScheduler(Scheduler)}
+         * with the same scheduler.
+         * <p>
+         * Scheduler can be overridden for particular operation via {@code createObservable(Scheduler)}.
+         *
+         * @param defaultScheduler scheduler for all operations or {@code null} to execute
+         *                         operations on the thread of subscriber.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder defaultScheduler(@Nullable Scheduler defaultScheduler) {
+            return readScheduler(defaultScheduler).writeScheduler(defaultScheduler);
+        }
+
+        /**
+         * Optional: Specifies {@link Scheduler} for Observables of read operations (Get),
+         * including re-execution of queries after changes.
+         * <p>
+         * By default, reads are executed on the pool of up to {@link DefaultStorIOSQLite#DEFAULT_MAX_READ_THREADS} threads.
+         *
+         * @param readScheduler scheduler for reads or {@code null} to execute reads on the thread of subscriber.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder readScheduler(@Nullable Scheduler readScheduler) {
+            this.readScheduler = readScheduler;
+            readSchedulerSpecified = true;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@link Scheduler} for Observables of write operations (Put, Delete, ExecuteSQL).
+         * <p>
+         * By default, writes are executed one by one on a single thread, because SQLite
+         * allows only one writer at a time and concurrent writers just wait for each other.
+         *
+         * @param writeScheduler scheduler for writes or {@code null} to execute writes on the thread of subscriber.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder writeScheduler(@Nullable Scheduler writeScheduler) {
+            this.writeScheduler = writeScheduler;
+            writeSchedulerSpecified = true;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies max number of threads of default scheduler for reads.
+         * Should not be greater than number of connections which can read in parallel:
+         * size of the pool of connections if write-ahead logging is enabled, otherwise {@code 1}.
+         * Ignored if {@link #readScheduler(Scheduler)} was specified.
+         * <p>
+         * Pool is bounded: if Observables of Operations block their threads waiting for
+         * other reads of this instance (for example, {@code flatMap()} with {@code toBlocking()}
+         * on the same scheduler), all threads can end up waiting for each other and
+         * reads will never complete. Do not block in such chains, or specify
+         * {@link #readScheduler(Scheduler)} with unbounded pool, like {@link rx.schedulers.Schedulers#io()}.
+         * <p>
+         * Default value is {@link DefaultStorIOSQLite#DEFAULT_MAX_READ_THREADS}.
+         *
+         * @param maxReadThreads positive max number of threads.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder maxReadThreads(int maxReadThreads) {
+            if (maxReadThreads <= 0) {
+                throw new IllegalArgumentException("maxReadThreads should be > 0, but was " + maxReadThreads);
+            }
+
+            this.maxReadThreads = maxReadThreads;
+            return this;
+        }
+
         /**
          * Builds {@link DefaultStorIOSQLite} instance with required params.
          *
@@ -172,7 +716,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @NonNull
         public DefaultStorIOSQLite build() {
-            return new DefaultStorIOSQLite(sqLiteOpenHelper, typesMapping);
+            return new DefaultStorIOSQLite(this);
         }
     }
 
@@ -181,8 +725,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     protected class InternalImpl extends Internal {
 
-        @NonNull
-        private final Object lock = new Object();
+        private static final String SAVEPOINT_PREFIX = "storio_savepoint_";
 
         // Unmodifiable
         @Nullable
@@ -193,15 +736,16 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                 = new ConcurrentHashMap<Class<?>, SQLiteTypeMapping<?>>();
 
         /**
-         * Guarded by {@link #lock}.
-         */
-        private int numberOfRunningTransactions = 0;
-
-        /**
-         * Guarded by {@link #lock}.
+         * Transactions of the current thread, the last one is the innermost.
+         * Only one thread can be in transaction, others are blocked in {@link #beginTransaction()}.
          */
         @NonNull
-        private final Set<Changes> pendingChanges = new HashSet<Changes>();
+        private final ThreadLocal<List<Transaction>> transactionsOfThread = new ThreadLocal<List<Transaction>>() {
+            @Override
+            protected List<Transaction> initialValue() {
+                return new ArrayList<Transaction>();
+            }
+        };
 
         protected InternalImpl(@Nullable Map<Class<?>, SQLiteTypeMapping<?>> typesMapping) {
             this.directTypesMapping = typesMapping != null
@@ -283,8 +827,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public void executeSQL(@NonNull RawQuery rawQuery) {
-            sqLiteOpenHelper
-                    .getWritableDatabase()
+            writableDatabase()
                     .execSQL(
                             rawQuery.query(),
                             nullableArrayOfStrings(rawQuery.args())
@@ -298,8 +841,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @NonNull
         @Override
         public Cursor rawQuery(@NonNull RawQuery rawQuery) {
-            return sqLiteOpenHelper
-                    .getReadableDatabase()
+            return readableDatabase()
                     .rawQuery(
                             rawQuery.query(),
                             nullableArrayOfStrings(rawQuery.args())
@@ -313,8 +855,8 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @NonNull
         @Override
         public Cursor query(@NonNull Query query) {
-            return sqLiteOpenHelper
-                    .getReadableDatabase().query(
+            return readableDatabase()
+                    .query(
                             query.distinct(),
                             query.table(),
                             nullableArrayOfStrings(query.columns()),
@@ -333,8 +875,15 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public long insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
+            if (compiledStatementsCache != null) {
+                return compiledStatementsCache.insert(
+                        writableDatabase(),
+                        insertQuery,
+                        contentValues
+                );
+            }
+
+            return writableDatabase()
                     .insertOrThrow(
                             insertQuery.table(),
                             insertQuery.nullColumnHack(),
@@ -342,14 +891,49 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     );
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @WorkerThread
+        @Override
+        public <T> long insert(@NonNull InsertQuery insertQuery, @NonNull String[] columns,
+                               @NonNull T object, @NonNull StatementBinder<T> binder) {
+            if (compiledStatementsCache != null) {
+                return compiledStatementsCache.insert(
+                        writableDatabase(),
+                        insertQuery,
+                        columns,
+                        object,
+                        binder
+                );
+            }
+
+            final SQLiteStatement statement = writableDatabase()
+                    .compileStatement(CompiledStatementsCache.insertSql(insertQuery.table(), columns));
+
+            try {
+                binder.bind(statement, object);
+                return statement.executeInsert();
+            } finally {
+                statement.close();
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
         @WorkerThread
         @Override
         public int update(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
+            if (compiledStatementsCache != null) {
+                return compiledStatementsCache.update(
+                        writableDatabase(),
+                        updateQuery,
+                        contentValues
+                );
+            }
+
+            return writableDatabase()
                     .update(
                             updateQuery.table(),
                             contentValues,
@@ -358,14 +942,49 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
                     );
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @WorkerThread
+        @Override
+        public <T> int update(@NonNull UpdateQuery updateQuery, @NonNull String[] columns,
+                              @NonNull T object, @NonNull StatementBinder<T> binder) {
+            if (compiledStatementsCache != null) {
+                return compiledStatementsCache.update(
+                        writableDatabase(),
+                        updateQuery,
+                        columns,
+                        object,
+                        binder
+                );
+            }
+
+            final SQLiteStatement statement = writableDatabase()
+                    .compileStatement(CompiledStatementsCache.updateSql(updateQuery.table(), columns, updateQuery.where()));
+
+            try {
+                binder.bind(statement, object);
+                CompiledStatementsCache.bindWhereArgs(statement, columns.length, updateQuery.whereArgs());
+                return statement.executeUpdateDelete();
+            } finally {
+                statement.close();
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
         @WorkerThread
         @Override
         public int delete(@NonNull DeleteQuery deleteQuery) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
+            if (compiledStatementsCache != null) {
+                return compiledStatementsCache.delete(
+                        writableDatabase(),
+                        deleteQuery
+                );
+            }
+
+            return writableDatabase()
                     .delete(
                             deleteQuery.table(),
                             nullableString(deleteQuery.where()),
@@ -378,37 +997,43 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void notifyAboutChanges(@NonNull Changes changes) {
-            synchronized (lock) {
-                pendingChanges.add(changes);
-                notifyAboutPendingChangesIfNotInTransaction();
+            final Transaction transaction = currentTransaction();
+
+            if (transaction != null) {
+                // changes will be delivered only if transaction will be committed
+                transaction.pendingChanges.add(changes);
+                return;
             }
-        }
 
-        /**
-         * Access to this method MUST BE guarded by synchronization on {@link #lock}.
-         */
-        private void notifyAboutPendingChangesIfNotInTransaction() {
-            if (numberOfRunningTransactions == 0) {
-                final Iterator<Changes> iterator = pendingChanges.iterator();
+            // transaction of another thread does not affect these changes, no reason to withhold them
+            deliver(changes);
+        }
 
-                while (iterator.hasNext()) {
-                    changesBus.onNext(iterator.next());
-                    iterator.remove();
-                }
+        private void deliver(@NonNull Changes changes) {
+            if (asyncChangesDelivery != null) {
+                asyncChangesDelivery.enqueue(changes);
+            } else if (changesDispatcher != null) {
+                changesDispatcher.dispatch(changes);
             }
         }
 
         /**
          * {@inheritDoc}
+         * <p>
+         * Nested transaction is started as a savepoint,
+         * so it can be rolled back without rollback of the outer transaction.
          */
         @Override
         public void beginTransaction() {
-            sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .beginTransaction();
+            final List<Transaction> transactions = transactionsOfThread.get();
 
-            synchronized (lock) {
-                numberOfRunningTransactions++;
+            if (transactions.isEmpty()) {
+                writableDatabase().beginTransaction();
+                transactions.add(new Transaction(null));
+            } else {
+                final String savepoint = SAVEPOINT_PREFIX + transactions.size();
+                writableDatabase().execSQL("SAVEPOINT " + savepoint);
+                transactions.add(new Transaction(savepoint));
             }
         }
 
@@ -417,10 +1042,18 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void setTransactionSuccessful() {
-            // SQLiteDatabase has it's own synchronization
-            sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .setTransactionSuccessful();
+            final Transaction transaction = currentTransaction();
+
+            if (transaction == null || transaction.savepoint == null) {
+                // SQLiteDatabase has it's own synchronization
+                writableDatabase().setTransactionSuccessful();
+            } else if (transaction.successful) {
+                throw new IllegalStateException("Transaction is already marked as successful");
+            }
+
+            if (transaction != null) {
+                transaction.successful = true;
+            }
         }
 
         /**
@@ -428,15 +1061,85 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void endTransaction() {
-            // SQLiteDatabase has it's own synchronization
-            sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .endTransaction();
-
-            synchronized (lock) {
-                numberOfRunningTransactions--;
-                notifyAboutPendingChangesIfNotInTransaction();
+            final Transaction transaction = currentTransaction();
+
+            if (transaction == null) {
+                // not started via StorIOSQLite, SQLiteDatabase will report misuse
+                writableDatabase().endTransaction();
+                return;
             }
+
+            boolean committed = false;
+
+            try {
+                if (transaction.savepoint == null) {
+                    // SQLiteDatabase has it's own synchronization
+                    writableDatabase().endTransaction();
+                } else {
+                    if (!transaction.successful) {
+                        // leading ';' prevents SQLiteDatabase on API < 28 from treating statement as ROLLBACK of whole transaction
+                        writableDatabase().execSQL(";ROLLBACK TO " + transaction.savepoint);
+                    }
+
+                    writableDatabase().execSQL("RELEASE " + transaction.savepoint);
+                }
+
+                committed = transaction.successful;
+            } finally {
+                final List<Transaction> transactions = transactionsOfThread.get();
+                transactions.remove(transactions.size() - 1);
+
+                // changes of rolled back transaction are dropped, nothing was changed
+                final Transaction outerTransaction = currentTransaction();
+
+                if (committed && !transaction.pendingChanges.isEmpty()) {
+                    if (outerTransaction != null) {
+                        // outer transaction still can be rolled back
+                        outerTransaction.pendingChanges.addAll(transaction.pendingChanges);
+                    } else {
+                        // one notification about all changes made in transaction
+                        deliver(transaction.pendingChanges.toChanges());
+                    }
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean inTransaction() {
+            return !transactionsOfThread.get().isEmpty();
+        }
+
+        @Nullable
+        private Transaction currentTransaction() {
+            final List<Transaction> transactions = transactionsOfThread.get();
+            return transactions.isEmpty() ? null : transactions.get(transactions.size() - 1);
+        }
+    }
+
+    /**
+     * Transaction started via {@link InternalImpl#beginTransaction()}.
+     */
+    private static final class Transaction {
+
+        /**
+         * Name of savepoint of nested transaction or {@code null} for the outermost transaction.
+         */
+        @Nullable
+        final String savepoint;
+
+        /**
+         * Changes made in this transaction and committed nested transactions.
+         */
+        @NonNull
+        final PendingChanges pendingChanges = new PendingChanges();
+
+        boolean successful;
+
+        Transaction(@Nullable String savepoint) {
+            this.savepoint = savepoint;
         }
     }
 }
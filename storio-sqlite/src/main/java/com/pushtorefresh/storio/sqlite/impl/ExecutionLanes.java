@@ -0,0 +1,93 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+/**
+ * Schedulers of {@link DefaultStorIOSQLite}: one thread for writes, because SQLite
+ * allows only one writer at a time, and bounded pool of threads for reads,
+ * so bursts of reads do not spawn unbounded number of threads which then wait for
+ * connections of the database. Idle threads are stopped after {@link #KEEP_ALIVE_SECONDS},
+ * executors are shut down by {@link DefaultStorIOSQLite#close()}.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ * <p>
+ * For internal usage only!
+ */
+final class ExecutionLanes {
+
+    static final long KEEP_ALIVE_SECONDS = 60;
+
+    private ExecutionLanes() {
+        throw new IllegalStateException("No instances please");
+    }
+
+    /**
+     * Creates bounded pool of threads for reads.
+     *
+     * @param maxReadThreads max number of threads.
+     * @return new executor, owner should shut it down.
+     */
+    @NonNull
+    static ThreadPoolExecutor newReadExecutor(int maxReadThreads) {
+        return newLaneExecutor(maxReadThreads, "StorIOSQLite-read-");
+    }
+
+    /**
+     * Creates single thread for writes.
+     *
+     * @return new executor, owner should shut it down.
+     */
+    @NonNull
+    static ThreadPoolExecutor newWriteExecutor() {
+        return newLaneExecutor(1, "StorIOSQLite-write-");
+    }
+
+    /**
+     * Creates scheduler backed by the executor of the lane.
+     *
+     * @param executor executor of the lane.
+     * @return new scheduler.
+     */
+    @NonNull
+    static Scheduler scheduler(@NonNull Executor executor) {
+        return Schedulers.from(executor);
+    }
+
+    @NonNull
+    static ThreadPoolExecutor newLaneExecutor(int threads, @NonNull final String threadNamePrefix) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+
+                    @NonNull
+                    private final AtomicInteger threadNumber = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        final Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+                        // same as threads of RxJava Schedulers, should not prevent JVM from exit
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                }
+        );
+
+        // threads are started on demand and stopped when lane is idle
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
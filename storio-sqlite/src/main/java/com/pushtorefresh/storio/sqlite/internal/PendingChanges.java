@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio.sqlite.internal;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accumulates {@link Changes} of transaction or of Operation with multiple objects
+ * into union of affected tables and rows, so memory does not grow with number of notifications
+ * and they are delivered as one {@link Changes}.
+ * <p>
+ * Implements union rules of {@link Changes#merge(java.util.Collection)}: affected rows of a table
+ * stay known only while all changes of the table have known rows with same key column.
+ * <p>
+ * Not thread-safe.
+ * <p>
+ * For internal usage only!
+ */
+public final class PendingChanges {
+
+    /**
+     * Table -> keys of affected rows, {@code null} value means that any row of the table could be changed.
+     */
+    @NonNull
+    private final Map<String, Set<String>> keysByTable = new HashMap<String, Set<String>>();
+
+    @NonNull
+    private final Map<String, String> keyColumnByTable = new HashMap<String, String>();
+
+    public void add(@NonNull Changes changes) {
+        for (final String table : changes.affectedTables()) {
+            final AffectedRows rows = changes.affectedRows(table);
+            addRows(table, rows != null ? rows.keyColumn() : null, rows != null ? rows.keys() : null);
+        }
+    }
+
+    /**
+     * Adds changes of one object without creating {@link Changes} for it.
+     *
+     * @param affectedTables tables affected by the change.
+     * @param affectedRows   rows of one of affected tables or {@code null} if affected rows are unknown.
+     */
+    public void add(@NonNull Set<String> affectedTables, @Nullable AffectedRows affectedRows) {
+        for (final String table : affectedTables) {
+            if (affectedRows != null && affectedRows.table().equals(table)) {
+                addRows(table, affectedRows.keyColumn(), affectedRows.keys());
+            } else {
+                addRows(table, null, null);
+            }
+        }
+    }
+
+    public void addAll(@NonNull PendingChanges pendingChanges) {
+        for (final Map.Entry<String, Set<String>> keysOfTable : pendingChanges.keysByTable.entrySet()) {
+            final String table = keysOfTable.getKey();
+            addRows(table, pendingChanges.keyColumnByTable.get(table), keysOfTable.getValue());
+        }
+    }
+
+    private void addRows(@NonNull String table, @Nullable String keyColumn, @Nullable Set<String> keys) {
+        if (!keysByTable.containsKey(table)) {
+            keysByTable.put(table, keys != null ? new HashSet<String>(keys) : null);
+
+            if (keys != null) {
+                keyColumnByTable.put(table, keyColumn);
+            }
+            return;
+        }
+
+        final Set<String> knownKeys = keysByTable.get(table);
+
+        if (knownKeys == null) {
+            return; // any row could be changed already
+        }
+
+        if (keys != null && keyColumnByTable.get(table).equals(keyColumn)) {
+            knownKeys.addAll(keys);
+        } else {
+            keysByTable.put(table, null);
+            keyColumnByTable.remove(table);
+        }
+    }
+
+    public boolean isEmpty() {
+        return keysByTable.isEmpty();
+    }
+
+    public void clear() {
+        keysByTable.clear();
+        keyColumnByTable.clear();
+    }
+
+    /**
+     * Creates one {@link Changes} of all accumulated changes.
+     *
+     * @return non-null, immutable {@link Changes}.
+     * @throws IllegalStateException if nothing was accumulated.
+     */
+    @NonNull
+    public Changes toChanges() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No pending changes");
+        }
+
+        final List<AffectedRows> affectedRows = new ArrayList<AffectedRows>(keysByTable.size());
+
+        for (final Map.Entry<String, Set<String>> keysOfTable : keysByTable.entrySet()) {
+            if (keysOfTable.getValue() != null) {
+                final String table = keysOfTable.getKey();
+                affectedRows.add(AffectedRows.newInstance(table, keyColumnByTable.get(table), keysOfTable.getValue()));
+            }
+        }
+
+        return Changes.newInstance(new HashSet<String>(keysByTable.keySet()), affectedRows);
+    }
+}
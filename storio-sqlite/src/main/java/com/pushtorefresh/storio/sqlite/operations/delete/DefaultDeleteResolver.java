@@ -1,16 +1,35 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.pushtorefresh.storio.Queries.placeholders;
+
 /**
  * Default implementation of {@link DeleteResolver}.
  * Thread-safe.
  */
 public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
 
+    /**
+     * Max number of keys in one statement of batched delete,
+     * SQLite limits number of bound variables in one statement by 999.
+     */
+    static final int MAX_KEYS_PER_STATEMENT = 999;
+
     /**
      * Converts object to {@link DeleteQuery}.
      *
@@ -20,6 +39,47 @@ public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
     @NonNull
     protected abstract DeleteQuery mapToDeleteQuery(@NonNull T object);
 
+    /**
+     * Optional: Returns name of the column that identifies objects of this type,
+     * used by batched Delete Operation to delete multiple objects
+     * with one {@code DELETE ... WHERE keyColumn IN (?,?,...)} statement,
+     * see {@link PreparedDeleteCollectionOfObjects.Builder#useBatchDelete(boolean)},
+     * and to report deleted rows in {@link DeleteResult} and {@link com.pushtorefresh.storio.sqlite.Changes}.
+     * <p>
+     * Override it together with {@link #mapToKey(Object)} only if {@link #mapToDeleteQuery(Object)}
+     * deletes rows by value of this single column (generated resolvers do it for types with one key column).
+     *
+     * @return name of the key column, or {@code null} (default) if objects can not be deleted in batches.
+     */
+    @Nullable
+    protected String keyColumn() {
+        return null;
+    }
+
+    /**
+     * Optional: Returns table of all objects of this type, so batched Delete Operation
+     * does not call {@link #mapToDeleteQuery(Object)} for each object to find its table.
+     * Used only together with {@link #keyColumn()} (generated resolvers define both).
+     *
+     * @return name of the table, or {@code null} (default) if table is defined by {@link #mapToDeleteQuery(Object)}.
+     */
+    @Nullable
+    protected String table() {
+        return null;
+    }
+
+    /**
+     * Optional: Maps object to the value of its {@link #keyColumn()}.
+     *
+     * @param object object that should be deleted.
+     * @return value of the key column, or {@code null} if object should be deleted
+     * with {@link #mapToDeleteQuery(Object)}.
+     */
+    @Nullable
+    protected Object mapToKey(@NonNull T object) {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +88,189 @@ public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
     public DeleteResult performDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull T object) {
         final DeleteQuery deleteQuery = mapToDeleteQuery(object);
         final int numberOfRowsDeleted = storIOSQLite.internal().delete(deleteQuery);
-        return DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table());
+
+        final String keyColumn = keyColumn();
+        final Object key = keyColumn != null ? mapToKey(object) : null;
+
+        return key != null
+                ? DeleteResult.newInstance(numberOfRowsDeleted, AffectedRows.newInstance(deleteQuery.table(), keyColumn, key.toString()))
+                : DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@link #keyColumn()} is defined, objects are grouped by table
+     * and deleted by chunks of {@link #MAX_KEYS_PER_STATEMENT} keys, each chunk is
+     * one {@code DELETE ... WHERE keyColumn IN (?,?,...)} statement.
+     * Keys are bound by their string representation, same as any {@code whereArgs}.
+     * <p>
+     * Statement reports only total number of deleted rows, so numbers of deleted rows
+     * of particular objects are approximate: rows of a chunk are attributed to its objects in order,
+     * one row per object, and rows over number of objects (key column is not unique) to the first object.
+     * They are exact if nothing was deleted, if chunk has one object or if each key
+     * matched exactly one row (for example, unique key column and all objects were in the db).
+     * Object with the same key as previous object of the table gets {@code 0}, same as for sequential delete.
+     * Total number of deleted rows and affected rows are always exact.
+     */
+    @NonNull
+    @Override
+    public Map<T, DeleteResult> performBatchDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
+        final String keyColumn = keyColumn();
+
+        if (keyColumn == null) {
+            return super.performBatchDelete(storIOSQLite, objects);
+        }
+
+        final Map<T, DeleteResult> results = new HashMap<T, DeleteResult>(objects.size());
+
+        // table -> objects with their distinct keys
+        final Map<String, Map<String, T>> objectsByTable
+                = new LinkedHashMap<String, Map<String, T>>(1); // in most cases it will be one table
+
+        final String table = table();
+
+        for (final T object : objects) {
+            final Object key = mapToKey(object);
+
+            if (key == null) {
+                final DeleteQuery deleteQuery = mapToDeleteQuery(object);
+                final int numberOfRowsDeleted = storIOSQLite.internal().delete(deleteQuery);
+                results.put(object, DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table()));
+            } else {
+                final String tableOfObject = table != null
+                        ? table
+                        : mapToDeleteQuery(object).table();
+
+                Map<String, T> objectsOfTable = objectsByTable.get(tableOfObject);
+
+                if (objectsOfTable == null) {
+                    objectsOfTable = new LinkedHashMap<String, T>();
+                    objectsByTable.put(tableOfObject, objectsOfTable);
+                }
+
+                final String keyAsString = key.toString();
+
+                if (objectsOfTable.containsKey(keyAsString)) {
+                    // row was already deleted by previous object, same as for sequential delete
+                    results.put(object, DeleteResult.newInstance(0, AffectedRows.newInstance(tableOfObject, keyColumn, keyAsString)));
+                } else {
+                    objectsOfTable.put(keyAsString, object);
+                }
+            }
+        }
+
+        for (final Map.Entry<String, Map<String, T>> objectsOfTable : objectsByTable.entrySet()) {
+            final List<Map.Entry<String, T>> objectsAndKeys = new ArrayList<Map.Entry<String, T>>(objectsOfTable.getValue().entrySet());
+
+            for (int start = 0; start < objectsAndKeys.size(); start += MAX_KEYS_PER_STATEMENT) {
+                final int end = Math.min(start + MAX_KEYS_PER_STATEMENT, objectsAndKeys.size());
+
+                deleteChunk(
+                        storIOSQLite,
+                        objectsOfTable.getKey(),
+                        keyColumn,
+                        objectsAndKeys.subList(start, end),
+                        results
+                );
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Deletes rows by values of the key column with {@code DELETE ... WHERE keyColumn IN (?,?,...)}
+     * statements of up to {@link #MAX_KEYS_PER_STATEMENT} keys each, without objects
+     * and without counting rows per key. All statements are executed in one transaction.
+     * <p>
+     * Same as other methods of resolver, it does not notify subscribers about changes,
+     * generated resolvers expose it as {@code deleteByKeys(storIOSQLite, keys)} which does it.
+     *
+     * @param storIOSQLite {@link StorIOSQLite} instance to delete rows from.
+     * @param table        table of rows.
+     * @param keyColumn    column that identifies rows.
+     * @param keys         values of the key column, compared by their string representation.
+     * @return non-null result with total number of deleted rows and keys of affected rows.
+     */
+    @WorkerThread
+    @NonNull
+    public DeleteResult performDeleteByKeys(@NonNull StorIOSQLite storIOSQLite,
+                                            @NonNull String table,
+                                            @NonNull String keyColumn,
+                                            @NonNull Collection<?> keys) {
+        final LinkedHashSet<String> keysAsStrings = new LinkedHashSet<String>(keys.size());
+
+        for (final Object key : keys) {
+            keysAsStrings.add(key.toString());
+        }
+
+        final List<String> uniqueKeys = new ArrayList<String>(keysAsStrings);
+        final StorIOSQLite.Internal internal = storIOSQLite.internal();
+        int numberOfRowsDeleted = 0;
+
+        // enclosing transaction (Group Operation) already keeps data consistent
+        final boolean ownTransaction = !internal.inTransaction();
+
+        if (ownTransaction) {
+            internal.beginTransaction();
+        }
+
+        try {
+            for (int start = 0; start < uniqueKeys.size(); start += MAX_KEYS_PER_STATEMENT) {
+                final List<String> keysOfChunk = uniqueKeys.subList(start, Math.min(start + MAX_KEYS_PER_STATEMENT, uniqueKeys.size()));
+
+                numberOfRowsDeleted += internal.delete(DeleteQuery.builder()
+                        .table(table)
+                        .where(keyColumn + " IN (" + placeholders(keysOfChunk.size()) + ")")
+                        .whereArgs(keysOfChunk.toArray())
+                        .build());
+            }
+
+            if (ownTransaction) {
+                internal.setTransactionSuccessful();
+            }
+        } finally {
+            if (ownTransaction) {
+                internal.endTransaction();
+            }
+        }
+
+        return DeleteResult.newInstance(numberOfRowsDeleted, AffectedRows.newInstance(table, keyColumn, keysAsStrings));
+    }
+
+    private void deleteChunk(@NonNull StorIOSQLite storIOSQLite,
+                             @NonNull String table,
+                             @NonNull String keyColumn,
+                             @NonNull List<Map.Entry<String, T>> objectsAndKeys,
+                             @NonNull Map<T, DeleteResult> results) {
+
+        final List<String> keys = new ArrayList<String>(objectsAndKeys.size());
+
+        for (final Map.Entry<String, T> objectAndKey : objectsAndKeys) {
+            keys.add(objectAndKey.getKey());
+        }
+
+        final int numberOfRowsDeleted = storIOSQLite.internal().delete(DeleteQuery.builder()
+                .table(table)
+                .where(keyColumn + " IN (" + placeholders(keys.size()) + ")")
+                .whereArgs(keys.toArray())
+                .build());
+
+        // see performBatchDelete() about attribution of rows to objects
+        final int numberOfObjectsWithDeletedRow = Math.min(numberOfRowsDeleted, keys.size());
+        final int numberOfExtraRows = numberOfRowsDeleted - numberOfObjectsWithDeletedRow;
+
+        for (int i = 0; i < objectsAndKeys.size(); i++) {
+            final Map.Entry<String, T> objectAndKey = objectsAndKeys.get(i);
+
+            results.put(
+                    objectAndKey.getValue(),
+                    DeleteResult.newInstance(
+                            (i < numberOfObjectsWithDeletedRow ? 1 : 0) + (i == 0 ? numberOfExtraRows : 0),
+                            AffectedRows.newInstance(table, keyColumn, objectAndKey.getKey())
+                    )
+            );
+        }
     }
 }
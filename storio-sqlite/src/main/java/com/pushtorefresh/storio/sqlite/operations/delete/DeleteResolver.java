@@ -4,6 +4,10 @@ import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines behavior of Delete Operation.
  * <p>
@@ -20,4 +24,26 @@ public abstract class DeleteResolver<T> {
      */
     @NonNull
     public abstract DeleteResult performDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull T object);
+
+    /**
+     * Performs delete of multiple objects,
+     * see {@link PreparedDeleteCollectionOfObjects.Builder#useBatchDelete(boolean)}.
+     * <p>
+     * Default implementation just performs {@link #performDelete(StorIOSQLite, Object)}
+     * for each object, subclasses can override it to delete objects with fewer statements.
+     *
+     * @param storIOSQLite {@link StorIOSQLite} instance to perform delete on.
+     * @param objects      objects that should be deleted.
+     * @return non-null map of objects and results of their delete.
+     */
+    @NonNull
+    public Map<T, DeleteResult> performBatchDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
+        final Map<T, DeleteResult> results = new HashMap<T, DeleteResult>(objects.size());
+
+        for (final T object : objects) {
+            results.put(object, performDelete(storIOSQLite, object));
+        }
+
+        return results;
+    }
 }
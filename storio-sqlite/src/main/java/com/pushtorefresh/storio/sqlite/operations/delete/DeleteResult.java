@@ -1,6 +1,9 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 
 import java.util.Collections;
 import java.util.Set;
@@ -19,10 +22,14 @@ public final class DeleteResult {
     @NonNull
     private final Set<String> affectedTables;
 
-    private DeleteResult(int numberOfRowsDeleted, @NonNull Set<String> affectedTables) {
+    @Nullable
+    private final AffectedRows affectedRows;
+
+    private DeleteResult(int numberOfRowsDeleted, @NonNull Set<String> affectedTables, @Nullable AffectedRows affectedRows) {
         checkNotNull(affectedTables, "Please specify affected tables");
         this.numberOfRowsDeleted = numberOfRowsDeleted;
         this.affectedTables = Collections.unmodifiableSet(affectedTables);
+        this.affectedRows = affectedRows;
     }
 
     /**
@@ -35,7 +42,7 @@ public final class DeleteResult {
     @NonNull
     public static DeleteResult newInstance(int numberOfRowsDeleted, @NonNull Set<String> affectedTables) {
         checkNotNull(affectedTables, "Please specify affected tables");
-        return new DeleteResult(numberOfRowsDeleted, affectedTables);
+        return new DeleteResult(numberOfRowsDeleted, affectedTables, null);
     }
 
     /**
@@ -48,7 +55,21 @@ public final class DeleteResult {
     @NonNull
     public static DeleteResult newInstance(int numberOfRowsDeleted, @NonNull String affectedTable) {
         checkNotNull(affectedTable, "Please specify affected table");
-        return new DeleteResult(numberOfRowsDeleted, Collections.singleton(affectedTable));
+        return new DeleteResult(numberOfRowsDeleted, Collections.singleton(affectedTable), null);
+    }
+
+    /**
+     * Creates new instance of immutable container for results of Delete Operation
+     * with known keys of deleted rows.
+     *
+     * @param numberOfRowsDeleted number of rows that were deleted.
+     * @param affectedRows        deleted rows, their table is the only affected table.
+     * @return new instance of immutable container for results of Delete Operation.
+     */
+    @NonNull
+    public static DeleteResult newInstance(int numberOfRowsDeleted, @NonNull AffectedRows affectedRows) {
+        checkNotNull(affectedRows, "Please specify affected rows");
+        return new DeleteResult(numberOfRowsDeleted, Collections.singleton(affectedRows.table()), affectedRows);
     }
 
     /**
@@ -70,6 +91,16 @@ public final class DeleteResult {
         return affectedTables;
     }
 
+    /**
+     * Gets rows that were deleted.
+     *
+     * @return rows that were affected or {@code null} if they are unknown.
+     */
+    @Nullable
+    public AffectedRows affectedRows() {
+        return affectedRows;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -78,13 +109,15 @@ public final class DeleteResult {
         DeleteResult that = (DeleteResult) o;
 
         if (numberOfRowsDeleted != that.numberOfRowsDeleted) return false;
-        return affectedTables.equals(that.affectedTables);
+        if (!affectedTables.equals(that.affectedTables)) return false;
+        return affectedRows != null ? affectedRows.equals(that.affectedRows) : that.affectedRows == null;
     }
 
     @Override
     public int hashCode() {
         int result = numberOfRowsDeleted;
         result = 31 * result + affectedTables.hashCode();
+        result = 31 * result + (affectedRows != null ? affectedRows.hashCode() : 0);
         return result;
     }
 
@@ -93,6 +126,7 @@ public final class DeleteResult {
         return "DeleteResult{" +
                 "numberOfRowsDeleted=" + numberOfRowsDeleted +
                 ", affectedTables=" + affectedTables +
+                ", affectedRows=" + affectedRows +
                 '}';
     }
 }
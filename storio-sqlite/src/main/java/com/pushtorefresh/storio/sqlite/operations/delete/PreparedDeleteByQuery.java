@@ -11,9 +11,10 @@ import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Delete Operation for {@link StorIOSQLite}.
@@ -47,7 +48,7 @@ public final class PreparedDeleteByQuery extends PreparedDelete<DeleteResult> {
     public DeleteResult executeAsBlocking() {
         try {
             final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, deleteQuery);
-            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()));
             return deleteResult;
         } catch (Exception exception) {
             throw new StorIOException(exception);
@@ -62,7 +63,7 @@ public final class PreparedDeleteByQuery extends PreparedDelete<DeleteResult> {
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation.
@@ -73,9 +74,25 @@ public final class PreparedDeleteByQuery extends PreparedDelete<DeleteResult> {
     public Observable<DeleteResult> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<DeleteResult> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
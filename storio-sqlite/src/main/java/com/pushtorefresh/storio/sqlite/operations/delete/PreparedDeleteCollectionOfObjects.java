@@ -9,20 +9,22 @@ import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.internal.PendingChanges;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Delete Operation for {@link StorIOSQLite}.
@@ -39,14 +41,18 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
     private final boolean useTransaction;
 
+    private final boolean useBatchDelete;
+
     PreparedDeleteCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
                                       @NonNull Collection<T> objects,
                                       @Nullable DeleteResolver<T> explicitDeleteResolver,
-                                      boolean useTransaction) {
+                                      boolean useTransaction,
+                                      boolean useBatchDelete) {
         super(storIOSQLite);
         this.objects = objects;
         this.explicitDeleteResolver = explicitDeleteResolver;
         this.useTransaction = useTransaction;
+        this.useBatchDelete = useBatchDelete;
     }
 
     /**
@@ -100,14 +106,23 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             boolean transactionSuccessful = false;
 
             try {
-                if (explicitDeleteResolver != null) {
+                if (useBatchDelete) {
+                    for (final Map.Entry<DeleteResolver<T>, List<T>> group : groupByDeleteResolver(objectsAndDeleteResolvers).entrySet()) {
+                        final Map<T, DeleteResult> groupResults = group.getKey().performBatchDelete(storIOSQLite, group.getValue());
+                        results.putAll(groupResults);
+
+                        if (!useTransaction) {
+                            internal.notifyAboutChanges(changes(groupResults));
+                        }
+                    }
+                } else if (explicitDeleteResolver != null) {
                     for (final T object : objects) {
                         final DeleteResult deleteResult = explicitDeleteResolver.performDelete(storIOSQLite, object);
 
                         results.put(object, deleteResult);
 
                         if (!useTransaction) {
-                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()));
                         }
                     }
                 } else {
@@ -120,7 +135,7 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
                         results.put(object, deleteResult);
 
                         if (!useTransaction) {
-                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()));
                         }
                     }
                 }
@@ -135,15 +150,9 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
                     // if delete was in transaction and it was successful -> notify about changes
                     if (transactionSuccessful) {
-                        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be one table
-
-                        for (final T object : results.keySet()) {
-                            affectedTables.addAll(results.get(object).affectedTables());
-                        }
-
                         // IMPORTANT: Notifying about change should be done after end of transaction
                         // It'll reduce number of possible deadlock situations
-                        internal.notifyAboutChanges(Changes.newInstance(affectedTables));
+                        internal.notifyAboutChanges(changes(results));
                     }
                 }
             }
@@ -155,6 +164,50 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
         }
     }
 
+    /**
+     * Groups objects by their {@link DeleteResolver} (and so, in most cases, by table)
+     * to let each resolver delete its objects at once.
+     *
+     * @param objectsAndDeleteResolvers objects with resolvers from type mappings or {@code null} if explicit resolver was passed.
+     * @return non-null groups of objects in order of the first occurrence of their resolver.
+     */
+    @NonNull
+    private Map<DeleteResolver<T>, List<T>> groupByDeleteResolver(@Nullable List<SimpleImmutableEntry<T, DeleteResolver<T>>> objectsAndDeleteResolvers) {
+        final Map<DeleteResolver<T>, List<T>> groups = new LinkedHashMap<DeleteResolver<T>, List<T>>();
+
+        if (explicitDeleteResolver != null) {
+            groups.put(explicitDeleteResolver, new ArrayList<T>(objects));
+        } else {
+            //noinspection ConstantConditions
+            for (final SimpleImmutableEntry<T, DeleteResolver<T>> objectAndDeleteResolver : objectsAndDeleteResolvers) {
+                List<T> group = groups.get(objectAndDeleteResolver.getValue());
+
+                if (group == null) {
+                    group = new ArrayList<T>();
+                    groups.put(objectAndDeleteResolver.getValue(), group);
+                }
+
+                group.add(objectAndDeleteResolver.getKey());
+            }
+        }
+
+        return groups;
+    }
+
+    @NonNull
+    private static <T> Changes changes(@NonNull Map<T, DeleteResult> results) {
+        // accumulate affected keys directly instead of merging Changes of each object
+        final PendingChanges changes = new PendingChanges();
+
+        for (final DeleteResult deleteResult : results.values()) {
+            changes.add(deleteResult.affectedTables(), deleteResult.affectedRows());
+        }
+
+        return changes.isEmpty()
+                ? Changes.newInstance(Collections.<String>emptySet())
+                : changes.toChanges();
+    }
+
     /**
      * Creates {@link Observable} which will perform Delete Operation and send result to observer.
      * <p>
@@ -163,7 +216,7 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation.
@@ -174,9 +227,25 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
     public Observable<DeleteResults<T>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<DeleteResults<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
@@ -196,6 +265,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
         private boolean useTransaction = true;
 
+        private boolean useBatchDelete = false;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -232,6 +303,28 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             return this;
         }
 
+        /**
+         * Optional: Defines that objects should be deleted in batches.
+         * <p>
+         * Objects are grouped by {@link DeleteResolver} and each group is passed to
+         * {@link DeleteResolver#performBatchDelete(StorIOSQLite, Collection)},
+         * {@link DefaultDeleteResolver} with defined {@link DefaultDeleteResolver#keyColumn()}
+         * (generated resolvers define it for types with one key column) deletes them with
+         * chunked {@code DELETE ... WHERE keyColumn IN (?,?,...)} statements.
+         * Results have same shape as for usual Delete Operation, but numbers of deleted rows
+         * of particular objects are approximate, see {@link DefaultDeleteResolver#performBatchDelete(StorIOSQLite, Collection)}.
+         * <p>
+         * By default, batch delete is not used.
+         *
+         * @param useBatchDelete {@code true} to delete objects in batches, {@code false} to delete them one by one.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> useBatchDelete(boolean useBatchDelete) {
+            this.useBatchDelete = useBatchDelete;
+            return this;
+        }
+
         /**
          * Prepares Delete Operation.
          *
@@ -243,7 +336,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
                     storIOSQLite,
                     objects,
                     deleteResolver,
-                    useTransaction
+                    useTransaction,
+                    useBatchDelete
             );
         }
     }
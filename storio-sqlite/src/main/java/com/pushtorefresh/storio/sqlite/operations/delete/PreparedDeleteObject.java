@@ -11,9 +11,10 @@ import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Delete Operation for {@link StorIOSQLite}.
@@ -71,7 +72,7 @@ public final class PreparedDeleteObject<T> extends PreparedDelete<DeleteResult>
             }
 
             final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, object);
-            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables(), deleteResult.affectedRows()));
             return deleteResult;
 
         } catch (Exception exception) {
@@ -87,7 +88,7 @@ public final class PreparedDeleteObject<T> extends PreparedDelete<DeleteResult>
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation.
@@ -98,9 +99,25 @@ public final class PreparedDeleteObject<T> extends PreparedDelete<DeleteResult>
     public Observable<DeleteResult> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<DeleteResult> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.pushtorefresh.storio.sqlite.operations.execute;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.StorIOException;
@@ -13,10 +14,11 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Execute SQL Operation for {@link StorIOSQLite}.
@@ -73,7 +75,7 @@ public final class PreparedExecuteSQL implements PreparedOperation<Object> {
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Delete Operation
@@ -87,9 +89,28 @@ public final class PreparedExecuteSQL implements PreparedOperation<Object> {
     public Observable<Object> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Delete Operation
+     * and send result to observer. Result: just a new instance of {@link Object},
+     * actually Execute SQL should return {@code void},
+     * but we can not return instance of {@link Void} so we just return {@link Object}
+     * and you don't have to deal with {@code null}.
+     */
+    @NonNull
+    public Observable<Object> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
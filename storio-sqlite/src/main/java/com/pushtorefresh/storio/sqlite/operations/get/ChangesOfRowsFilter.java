@@ -0,0 +1,166 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import rx.Observable;
+import rx.functions.Func1;
+
+/**
+ * Skips {@link Changes} that can not affect result of the {@link Query} by key:
+ * {@code WHERE keyColumn = ?} or {@code WHERE keyColumn IN (?, ?, ...)},
+ * so Get Operation observing particular rows won't be re-executed after changes of other rows.
+ * <p>
+ * {@link Changes} without {@link AffectedRows} of the table or with other key column are never skipped.
+ * <p>
+ * Keys are compared as strings, while SQLite compares values of numeric columns as numbers
+ * ({@code "05"} and {@code "5"}, {@code "1.0"} and {@code "1"} can be same key).
+ * So if any key looks like a number which string form is not canonical,
+ * {@link Changes} are not skipped and Get Operation re-queries the db as usual.
+ * <p>
+ * Separate class is required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ * <p>
+ * For internal usage only!
+ */
+final class ChangesOfRowsFilter implements Func1<Changes, Boolean> {
+
+    /**
+     * {@code keyColumn = ?} or {@code keyColumn IN (?, ...)}, column can be qualified with table name.
+     */
+    @NonNull
+    private static final Pattern WHERE_BY_KEY = Pattern.compile(
+            "^\\s*(?:\\w+\\.)?(\\w+)\\s*(?:=\\s*\\?|IN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))\\s*$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Text that SQLite can convert to a number when compares it with numeric column.
+     */
+    @NonNull
+    private static final Pattern NUMERIC = Pattern.compile(
+            "^\\s*[+-]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][+-]?\\d+)?\\s*$"
+    );
+
+    /**
+     * Integer in the form in which SQLite returns it as text, small enough to not overflow.
+     */
+    @NonNull
+    private static final Pattern CANONICAL_INTEGER = Pattern.compile("^-?(?:0|[1-9]\\d{0,17})$");
+
+    @NonNull
+    private final String table;
+
+    @NonNull
+    private final String keyColumn;
+
+    @NonNull
+    private final Set<String> keys;
+
+    ChangesOfRowsFilter(@NonNull String table, @NonNull String keyColumn, @NonNull Set<String> keys) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.keys = keys;
+    }
+
+    /**
+     * Creates filter for the {@link Query} if it selects rows by key.
+     *
+     * @param query query of Get Operation.
+     * @return filter or {@code null} if query does not select rows by key.
+     */
+    @Nullable
+    static ChangesOfRowsFilter forQuery(@NonNull Query query) {
+        final Matcher matcher = WHERE_BY_KEY.matcher(query.where());
+
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        final List<String> whereArgs = query.whereArgs();
+        final String where = query.where();
+        int numberOfPlaceholders = 0;
+
+        for (int i = 0; i < where.length(); i++) {
+            if (where.charAt(i) == '?') {
+                numberOfPlaceholders++;
+            }
+        }
+
+        if (numberOfPlaceholders != whereArgs.size()) {
+            // invalid query, let it fail as usual
+            return null;
+        }
+
+        if (!allKeysAreComparableAsStrings(whereArgs)) {
+            return null;
+        }
+
+        return new ChangesOfRowsFilter(query.table(), matcher.group(1), new HashSet<String>(whereArgs));
+    }
+
+    /**
+     * Applies filter to the {@link Observable} of {@link Changes} if query selects rows by key.
+     *
+     * @param changes {@link Observable} of changes of tables from query.
+     * @param query   query of Get Operation or {@code null} for raw query.
+     * @return filtered or passed {@link Observable}.
+     */
+    @NonNull
+    static Observable<Changes> apply(@NonNull Observable<Changes> changes, @Nullable Query query) {
+        final ChangesOfRowsFilter filter = query != null
+                ? forQuery(query)
+                : null;
+
+        return filter != null
+                ? changes.filter(filter)
+                : changes;
+    }
+
+    @Override
+    public Boolean call(Changes changes) {
+        final AffectedRows affectedRows = changes.affectedRows(table);
+
+        if (affectedRows == null || !affectedRows.keyColumn().equalsIgnoreCase(keyColumn)) {
+            // any row of the table could be changed
+            return true;
+        }
+
+        if (!allKeysAreComparableAsStrings(affectedRows.keys())) {
+            // can not say for sure that changed rows are not the observed ones
+            return true;
+        }
+
+        for (final String key : affectedRows.keys()) {
+            if (keys.contains(key)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks that keys are equal for SQLite only if their strings are equal:
+     * each key is either not a number or an integer in canonical form.
+     */
+    private static boolean allKeysAreComparableAsStrings(@NonNull Collection<String> keys) {
+        for (final String key : keys) {
+            if (NUMERIC.matcher(key).matches() && !CANONICAL_INTEGER.matcher(key).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -2,11 +2,21 @@ package com.pushtorefresh.storio.sqlite.operations.get;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static com.pushtorefresh.storio.Queries.placeholders;
+
 /**
  * Default implementation of {@link GetResolver}.
  * <p>
@@ -16,6 +26,18 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
  */
 public abstract class DefaultGetResolver<T> extends GetResolver<T> {
 
+    /**
+     * Max number of keys in one query of {@link #performGetByKeys(StorIOSQLite, String, String, Collection)},
+     * SQLite limits number of bound variables in one statement by 999.
+     */
+    static final int MAX_KEYS_PER_QUERY = 999;
+
+    /**
+     * Indices resolved for the last seen cursor, replaced as a whole -> no locks needed.
+     */
+    @Nullable
+    private volatile ColumnIndices cachedColumnIndices;
+
     /**
      * {@inheritDoc}
      */
@@ -33,4 +55,122 @@ public abstract class DefaultGetResolver<T> extends GetResolver<T> {
     public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
         return storIOSQLite.internal().query(query);
     }
+
+    /**
+     * Gets objects by values of the key column with {@code SELECT * FROM table WHERE keyColumn IN (?,?,...)}
+     * queries of up to {@link #MAX_KEYS_PER_QUERY} keys each, rows are mapped by {@link #mapFromCursor(Cursor)}.
+     * <p>
+     * Objects are returned in order of rows, keys without rows are skipped. Keys are compared by their
+     * string representation, same as any {@code whereArgs}. Generated resolvers expose it as
+     * {@code getByKeys(storIOSQLite, keys)} for types with one key column.
+     * <p>
+     * Notice: queries are not wrapped into transaction, so if keys are split into multiple queries
+     * they can see different state of the table.
+     *
+     * @param storIOSQLite {@link StorIOSQLite} instance to get objects from.
+     * @param table        table of objects.
+     * @param keyColumn    column that identifies objects.
+     * @param keys         values of the key column.
+     * @return non-null, mutable list of found objects.
+     */
+    @WorkerThread
+    @NonNull
+    public List<T> performGetByKeys(@NonNull StorIOSQLite storIOSQLite,
+                                    @NonNull String table,
+                                    @NonNull String keyColumn,
+                                    @NonNull Collection<?> keys) {
+        // same key in multiple chunks would give duplicated objects
+        final LinkedHashSet<String> keysAsStrings = new LinkedHashSet<String>(keys.size());
+
+        for (final Object key : keys) {
+            keysAsStrings.add(key.toString());
+        }
+
+        final List<String> uniqueKeys = new ArrayList<String>(keysAsStrings);
+
+        final List<T> objects = new ArrayList<T>(uniqueKeys.size());
+
+        for (int start = 0; start < uniqueKeys.size(); start += MAX_KEYS_PER_QUERY) {
+            final List<String> keysOfChunk = uniqueKeys.subList(start, Math.min(start + MAX_KEYS_PER_QUERY, uniqueKeys.size()));
+
+            final Cursor cursor = performGet(storIOSQLite, Query.builder()
+                    .table(table)
+                    .where(keyColumn + " IN (" + placeholders(keysOfChunk.size()) + ")")
+                    .whereArgs(keysOfChunk)
+                    .build());
+
+            try {
+                while (cursor.moveToNext()) {
+                    objects.add(mapFromCursor(cursor));
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+
+        return objects;
+    }
+
+    /**
+     * Returns indices of passed columns in the {@link Cursor}, resolved only once per {@link Cursor}
+     * instead of {@link Cursor#getColumnIndex(String)} (string lookup) for each column of each row.
+     * <p>
+     * Useful inside of {@link #mapFromCursor(Cursor)}, generated resolvers use it too:
+     * <pre>
+     * {@code
+     * private static final String[] COLUMN_NAMES = {"id", "name"};
+     *
+     * public User mapFromCursor(Cursor cursor) {
+     *     final int[] columnIndices = columnIndices(cursor, COLUMN_NAMES);
+     *     return new User(cursor.getLong(columnIndices[0]), cursor.getString(columnIndices[1]));
+     * }
+     * }
+     * </pre>
+     *
+     * @param cursor      cursor with the columns.
+     * @param columnNames names of columns, please pass same array instance (constant) for each row,
+     *                    otherwise indices will be resolved again.
+     * @return non-null array with index of each column in the {@link Cursor}
+     * or {@code -1} if column does not exist, please don't modify it, array is shared between calls.
+     */
+    @NonNull
+    protected int[] columnIndices(@NonNull Cursor cursor, @NonNull String[] columnNames) {
+        final ColumnIndices columnIndices = cachedColumnIndices;
+
+        if (columnIndices != null
+                && columnIndices.columnNames == columnNames
+                && columnIndices.cursor.get() == cursor) {
+            return columnIndices.indices;
+        }
+
+        final int[] indices = new int[columnNames.length];
+
+        for (int i = 0; i < columnNames.length; i++) {
+            indices[i] = cursor.getColumnIndex(columnNames[i]);
+        }
+
+        cachedColumnIndices = new ColumnIndices(cursor, columnNames, indices);
+        return indices;
+    }
+
+    private static final class ColumnIndices {
+
+        /**
+         * Weak to not hold cursor after the end of Get Operation.
+         */
+        @NonNull
+        final WeakReference<Cursor> cursor;
+
+        @NonNull
+        final String[] columnNames;
+
+        @NonNull
+        final int[] indices;
+
+        ColumnIndices(@NonNull Cursor cursor, @NonNull String[] columnNames, @NonNull int[] indices) {
+            this.cursor = new WeakReference<Cursor>(cursor);
+            this.columnNames = columnNames;
+            this.indices = indices;
+        }
+    }
 }
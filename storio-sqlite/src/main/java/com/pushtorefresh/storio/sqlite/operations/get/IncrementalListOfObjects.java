@@ -0,0 +1,267 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import static com.pushtorefresh.storio.Queries.placeholders;
+
+/**
+ * Keeps result of {@link PreparedGetListOfObjects} between {@link Changes} and patches it
+ * by re-reading only affected rows if {@link Changes} contain {@link AffectedRows} of the query table.
+ * <p>
+ * Patching is possible only for {@link Query} without {@code ORDER BY}, {@code LIMIT},
+ * {@code GROUP BY}, {@code HAVING} and {@code DISTINCT} which selects key column:
+ * updated objects keep their positions and inserted objects are appended to the end of the list,
+ * otherwise (and for {@link com.pushtorefresh.storio.sqlite.queries.RawQuery}) whole query is executed again.
+ * <p>
+ * Not thread-safe, {@link Changes} are delivered sequentially.
+ * Separate class is required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ * <p>
+ * For internal usage only!
+ */
+final class IncrementalListOfObjects<T> implements Func1<Changes, ListUpdate<T>> {
+
+    /**
+     * SQLite limits number of bound variables in one statement by 999.
+     */
+    static final int MAX_ARGS_PER_PATCH = 999;
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    @NonNull
+    private final GetResolver<T> getResolver;
+
+    @Nullable
+    private final Query query;
+
+    @NonNull
+    private final PreparedGetListOfObjects<T> preparedGet;
+
+    @NonNull
+    private List<T> objects = Collections.emptyList();
+
+    /**
+     * Keys of {@link #objects} in {@link #keyColumn}, {@code null} if they are unknown.
+     */
+    @Nullable
+    private List<String> keys;
+
+    @Nullable
+    private String keyColumn;
+
+    IncrementalListOfObjects(@NonNull PreparedGetListOfObjects<T> preparedGet, @NonNull GetResolver<T> getResolver) {
+        this.preparedGet = preparedGet;
+        this.getResolver = getResolver;
+        storIOSQLite = preparedGet.storIOSQLite;
+        query = preparedGet.query != null && isPatchable(preparedGet.query) ? preparedGet.query : null;
+    }
+
+    /**
+     * Creates {@link Observable} which emits full result first and then patched results after each change.
+     *
+     * @param preparedGet prepared Get Operation.
+     * @param changes     {@link Observable} of changes of tables from query.
+     * @return non-null {@link Observable} of {@link ListUpdate}.
+     */
+    @NonNull
+    static <T> Observable<ListUpdate<T>> observe(@NonNull final PreparedGetListOfObjects<T> preparedGet,
+                                                 @NonNull final Observable<Changes> changes) {
+        return Observable.defer(new Func0<Observable<ListUpdate<T>>>() {
+            @Override
+            public Observable<ListUpdate<T>> call() {
+                // state is per subscriber
+                final IncrementalListOfObjects<T> incremental
+                        = new IncrementalListOfObjects<T>(preparedGet, preparedGet.resolveGetResolver());
+
+                return Observable.concat(
+                        Observable.just(incremental.reload(null)),
+                        changes.map(incremental)
+                );
+            }
+        });
+    }
+
+    static boolean isPatchable(@NonNull Query query) {
+        return !query.distinct()
+                && query.groupBy().length() == 0
+                && query.having().length() == 0
+                && query.orderBy().length() == 0
+                && query.limit().length() == 0;
+    }
+
+    @Override
+    public ListUpdate<T> call(Changes changes) {
+        if (query == null) {
+            return reload(null);
+        }
+
+        final AffectedRows affectedRows = changes.affectedRows(query.table());
+
+        if (affectedRows == null) {
+            // any row could be changed, keep reading keys of the previous key column
+            return reload(keyColumn);
+        }
+
+        if (keys == null
+                || !affectedRows.keyColumn().equals(keyColumn)
+                || query.whereArgs().size() + affectedRows.keys().size() > MAX_ARGS_PER_PATCH) {
+            return reload(affectedRows.keyColumn());
+        }
+
+        return patch(affectedRows);
+    }
+
+    /**
+     * Executes whole query.
+     *
+     * @param keyColumn column which values should be remembered to patch next results, or {@code null}.
+     */
+    @NonNull
+    ListUpdate<T> reload(@Nullable String keyColumn) {
+        if (query == null || keyColumn == null) {
+            objects = preparedGet.executeAsBlocking();
+            keys = null;
+            this.keyColumn = null;
+            return ListUpdate.newReloadedInstance(objects);
+        }
+
+        final Cursor cursor;
+
+        try {
+            cursor = getResolver.performGet(storIOSQLite, query);
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+
+        try {
+            final int keyColumnIndex = cursor.getColumnIndex(keyColumn);
+            final List<T> newObjects = new ArrayList<T>(cursor.getCount());
+            final List<String> newKeys = keyColumnIndex != -1 ? new ArrayList<String>(cursor.getCount()) : null;
+
+            while (cursor.moveToNext()) {
+                newObjects.add(getResolver.mapFromCursor(cursor));
+
+                if (newKeys != null) {
+                    newKeys.add(cursor.getString(keyColumnIndex));
+                }
+            }
+
+            objects = Collections.unmodifiableList(newObjects);
+            keys = newKeys != null && new HashSet<String>(newKeys).size() == newKeys.size()
+                    ? newKeys
+                    : null; // key column is not selected or not unique -> can not patch
+            this.keyColumn = keys != null ? keyColumn : null;
+
+            return ListUpdate.newReloadedInstance(objects);
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @NonNull
+    private ListUpdate<T> patch(@NonNull AffectedRows affectedRows) {
+        //noinspection ConstantConditions
+        final Query query = this.query;
+        //noinspection ConstantConditions
+        final List<String> keys = this.keys;
+
+        final Set<String> affectedKeys = affectedRows.keys();
+
+        if (affectedKeys.isEmpty()) {
+            return ListUpdate.newPatchedInstance(
+                    objects,
+                    Collections.<Integer>emptyList(),
+                    Collections.<Integer>emptyList(),
+                    Collections.<Integer>emptyList()
+            );
+        }
+
+        final String keysWhere = keyColumn + " IN (" + placeholders(affectedKeys.size()) + ")";
+
+        final List<Object> whereArgs = new ArrayList<Object>(query.whereArgs().size() + affectedKeys.size());
+        whereArgs.addAll(query.whereArgs());
+        whereArgs.addAll(affectedKeys);
+
+        final Map<String, T> affectedObjects = new LinkedHashMap<String, T>(affectedKeys.size());
+        final Cursor cursor;
+
+        try {
+            // re-reading only affected rows that still match the query
+            cursor = getResolver.performGet(storIOSQLite, Query.builder()
+                    .table(query.table())
+                    .columns(query.columns().toArray(new String[query.columns().size()]))
+                    .where(query.where().length() == 0 ? keysWhere : "(" + query.where() + ") AND " + keysWhere)
+                    .whereArgs(whereArgs)
+                    .build());
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+
+        try {
+            final int keyColumnIndex = cursor.getColumnIndexOrThrow(keyColumn);
+
+            while (cursor.moveToNext()) {
+                affectedObjects.put(cursor.getString(keyColumnIndex), getResolver.mapFromCursor(cursor));
+            }
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        } finally {
+            cursor.close();
+        }
+
+        final List<T> newObjects = new ArrayList<T>(objects.size() + affectedObjects.size());
+        final List<String> newKeys = new ArrayList<String>(objects.size() + affectedObjects.size());
+        final List<Integer> removedPositions = new ArrayList<Integer>();
+        final List<Integer> updatedPositions = new ArrayList<Integer>();
+        final List<Integer> insertedPositions = new ArrayList<Integer>();
+
+        for (int position = 0; position < objects.size(); position++) {
+            final String key = keys.get(position);
+
+            if (!affectedKeys.contains(key)) {
+                newObjects.add(objects.get(position));
+                newKeys.add(key);
+            } else if (affectedObjects.containsKey(key)) {
+                updatedPositions.add(newObjects.size());
+                newObjects.add(affectedObjects.remove(key));
+                newKeys.add(key);
+            } else {
+                // deleted or does not match the query anymore
+                removedPositions.add(0, position);
+            }
+        }
+
+        for (final Map.Entry<String, T> insertedObject : affectedObjects.entrySet()) {
+            insertedPositions.add(newObjects.size());
+            newObjects.add(insertedObject.getValue());
+            newKeys.add(insertedObject.getKey());
+        }
+
+        objects = Collections.unmodifiableList(newObjects);
+        this.keys = newKeys;
+
+        return ListUpdate.newPatchedInstance(objects, removedPositions, updatedPositions, insertedPositions);
+    }
+}
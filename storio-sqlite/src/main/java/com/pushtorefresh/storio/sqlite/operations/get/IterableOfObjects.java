@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy result of {@link PreparedGetIterableOfObjects}: keeps {@link Cursor} open
+ * and maps rows to objects one by one via {@link GetResolver#mapFromCursor(Cursor)}
+ * while you iterate, so only one mapped object is held at a time.
+ * <p>
+ * Can be iterated only once. {@link Cursor} is closed automatically after the last row,
+ * if you stop iteration earlier — please call {@link #close()}, for example:
+ * <pre>
+ * {@code
+ * final IterableOfObjects<User> users = storIOSQLite.get().iterableOfObjects(User.class)...executeAsBlocking();
+ *
+ * try {
+ *     for (User user : users) {
+ *         // ...
+ *     }
+ * } finally {
+ *     users.close();
+ * }
+ * }
+ * </pre>
+ * <p>
+ * Not thread-safe, same as {@link Cursor}.
+ *
+ * @param <T> type of objects.
+ */
+public final class IterableOfObjects<T> implements Iterable<T>, Closeable {
+
+    @NonNull
+    private final Cursor cursor;
+
+    @NonNull
+    private final GetResolver<T> getResolver;
+
+    private boolean iteratorCreated;
+
+    private boolean closed;
+
+    IterableOfObjects(@NonNull Cursor cursor, @NonNull GetResolver<T> getResolver) {
+        this.cursor = cursor;
+        this.getResolver = getResolver;
+    }
+
+    /**
+     * Returns iterator over objects mapped from rows of the {@link Cursor}.
+     *
+     * @return non-null iterator, can be created only once.
+     * @throws IllegalStateException if iterator was already created.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public Iterator<T> iterator() {
+        if (iteratorCreated) {
+            throw new IllegalStateException("IterableOfObjects can be iterated only once");
+        }
+
+        iteratorCreated = true;
+        return new ObjectsIterator();
+    }
+
+    /**
+     * Closes underlying {@link Cursor}, can be called multiple times.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cursor.close();
+        }
+    }
+
+    private final class ObjectsIterator implements Iterator<T> {
+
+        /**
+         * {@code null} -> we don't know yet, need to move cursor.
+         */
+        private Boolean hasNext;
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                hasNext = !closed && cursor.moveToNext();
+
+                if (!hasNext) {
+                    close();
+                }
+            }
+
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            hasNext = null;
+
+            try {
+                return getResolver.mapFromCursor(cursor);
+            } catch (Exception exception) {
+                close();
+                throw new StorIOException(exception);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("IterableOfObjects is read-only");
+        }
+    }
+}
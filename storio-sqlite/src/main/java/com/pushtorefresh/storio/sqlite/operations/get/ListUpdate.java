@@ -0,0 +1,167 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * Immutable result of incremental Get Operation: list of objects
+ * and positions of objects that were changed since previous result.
+ * <p>
+ * Positions can be applied to the previous list in order: removals, updates, insertions,
+ * for example via {@code notifyItemRemoved()}, {@code notifyItemChanged()}
+ * and {@code notifyItemInserted()} of {@code RecyclerView.Adapter}.
+ * If result was {@link #reloaded()}, positions are empty and whole list should be considered as changed.
+ *
+ * @param <T> type of objects.
+ */
+public final class ListUpdate<T> {
+
+    @NonNull
+    private final List<T> objects;
+
+    private final boolean reloaded;
+
+    @NonNull
+    private final List<Integer> removedPositions;
+
+    @NonNull
+    private final List<Integer> updatedPositions;
+
+    @NonNull
+    private final List<Integer> insertedPositions;
+
+    private ListUpdate(@NonNull List<T> objects,
+                       boolean reloaded,
+                       @NonNull List<Integer> removedPositions,
+                       @NonNull List<Integer> updatedPositions,
+                       @NonNull List<Integer> insertedPositions) {
+        checkNotNull(objects, "Please specify objects");
+        checkNotNull(removedPositions, "Please specify removed positions");
+        checkNotNull(updatedPositions, "Please specify updated positions");
+        checkNotNull(insertedPositions, "Please specify inserted positions");
+        this.objects = Collections.unmodifiableList(objects);
+        this.reloaded = reloaded;
+        this.removedPositions = Collections.unmodifiableList(removedPositions);
+        this.updatedPositions = Collections.unmodifiableList(updatedPositions);
+        this.insertedPositions = Collections.unmodifiableList(insertedPositions);
+    }
+
+    /**
+     * Creates {@link ListUpdate} of fully re-queried result.
+     *
+     * @param objects objects of the result.
+     * @param <T>     type of objects.
+     * @return new immutable instance of {@link ListUpdate}.
+     */
+    @NonNull
+    public static <T> ListUpdate<T> newReloadedInstance(@NonNull List<T> objects) {
+        final List<Integer> noPositions = Collections.emptyList();
+        return new ListUpdate<T>(objects, true, noPositions, noPositions, noPositions);
+    }
+
+    /**
+     * Creates {@link ListUpdate} of patched result.
+     *
+     * @param objects           objects of the result.
+     * @param removedPositions  positions of removed objects in the previous list, in descending order.
+     * @param updatedPositions  positions of updated objects in the list after removals, in ascending order.
+     * @param insertedPositions positions of inserted objects in the new list, in ascending order.
+     * @param <T>               type of objects.
+     * @return new immutable instance of {@link ListUpdate}.
+     */
+    @NonNull
+    public static <T> ListUpdate<T> newPatchedInstance(@NonNull List<T> objects,
+                                                       @NonNull List<Integer> removedPositions,
+                                                       @NonNull List<Integer> updatedPositions,
+                                                       @NonNull List<Integer> insertedPositions) {
+        return new ListUpdate<T>(objects, false, removedPositions, updatedPositions, insertedPositions);
+    }
+
+    /**
+     * Gets objects of the result.
+     *
+     * @return non-null, immutable list of objects, can be empty.
+     */
+    @NonNull
+    public List<T> objects() {
+        return objects;
+    }
+
+    /**
+     * Checks whether result was fully re-queried instead of patching of the previous one.
+     *
+     * @return {@code true} if whole list should be considered as changed, {@code false} if positions are known.
+     */
+    public boolean reloaded() {
+        return reloaded;
+    }
+
+    /**
+     * Gets positions of removed objects in the previous list.
+     *
+     * @return immutable list of positions in descending order, so they can be removed one by one.
+     */
+    @NonNull
+    public List<Integer> removedPositions() {
+        return removedPositions;
+    }
+
+    /**
+     * Gets positions of updated objects, same in the list after removals and in the new list.
+     *
+     * @return immutable list of positions in ascending order.
+     */
+    @NonNull
+    public List<Integer> updatedPositions() {
+        return updatedPositions;
+    }
+
+    /**
+     * Gets positions of inserted objects in the new list.
+     *
+     * @return immutable list of positions in ascending order.
+     */
+    @NonNull
+    public List<Integer> insertedPositions() {
+        return insertedPositions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ListUpdate<?> that = (ListUpdate<?>) o;
+
+        if (reloaded != that.reloaded) return false;
+        if (!objects.equals(that.objects)) return false;
+        if (!removedPositions.equals(that.removedPositions)) return false;
+        if (!updatedPositions.equals(that.updatedPositions)) return false;
+        return insertedPositions.equals(that.insertedPositions);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = objects.hashCode();
+        result = 31 * result + (reloaded ? 1 : 0);
+        result = 31 * result + removedPositions.hashCode();
+        result = 31 * result + updatedPositions.hashCode();
+        result = 31 * result + insertedPositions.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ListUpdate{" +
+                "objects=" + objects +
+                ", reloaded=" + reloaded +
+                ", removedPositions=" + removedPositions +
+                ", updatedPositions=" + updatedPositions +
+                ", insertedPositions=" + insertedPositions +
+                '}';
+    }
+}
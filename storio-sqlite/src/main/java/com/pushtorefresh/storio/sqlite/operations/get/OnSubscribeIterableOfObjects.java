@@ -0,0 +1,154 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.subscriptions.Subscriptions;
+
+/**
+ * Emits objects of {@link IterableOfObjects} one by one, only as many as were requested by subscriber,
+ * closes {@link android.database.Cursor} and completes as soon as there are no more rows, or on unsubscribe.
+ * <p>
+ * Separate class is required to avoid problems with ClassLoader when RxJava is not in ClassPath.
+ * <p>
+ * For internal usage only!
+ */
+final class OnSubscribeIterableOfObjects<T> implements Observable.OnSubscribe<T> {
+
+    @NonNull
+    private final PreparedGetIterableOfObjects<T> preparedGet;
+
+    OnSubscribeIterableOfObjects(@NonNull PreparedGetIterableOfObjects<T> preparedGet) {
+        this.preparedGet = preparedGet;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> subscriber) {
+        final IterableOfObjects<T> iterableOfObjects = preparedGet.executeAsBlocking();
+        final ObjectsProducer<T> producer = new ObjectsProducer<T>(subscriber, iterableOfObjects);
+
+        subscriber.add(Subscriptions.create(producer));
+        subscriber.setProducer(producer);
+    }
+
+    /**
+     * Cursor is touched only inside of {@link #drain()} which can not be executed concurrently,
+     * so it's safe to request and unsubscribe from any thread.
+     */
+    static final class ObjectsProducer<T> extends AtomicLong implements Producer, Action0 {
+
+        private static final long serialVersionUID = 2843612853466389342L;
+
+        @NonNull
+        private final Subscriber<? super T> subscriber;
+
+        @NonNull
+        private final IterableOfObjects<T> iterableOfObjects;
+
+        @NonNull
+        private final Iterator<T> iterator;
+
+        @NonNull
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * Guarded by {@link #wip}.
+         */
+        private boolean terminated;
+
+        ObjectsProducer(@NonNull Subscriber<? super T> subscriber, @NonNull IterableOfObjects<T> iterableOfObjects) {
+            this.subscriber = subscriber;
+            this.iterableOfObjects = iterableOfObjects;
+            iterator = iterableOfObjects.iterator();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                return;
+            }
+
+            while (true) {
+                final long requested = get();
+                final long newRequested = requested + n < 0 ? Long.MAX_VALUE : requested + n; // overflow -> unbounded
+
+                if (compareAndSet(requested, newRequested)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /**
+         * Called on unsubscribe.
+         */
+        @Override
+        public void call() {
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                // other thread is draining, it will loop again
+                return;
+            }
+
+            do {
+                if (!terminated) {
+                    emitRequested();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void emitRequested() {
+            final long requested = get();
+            long emitted = 0;
+
+            while (true) {
+                if (subscriber.isUnsubscribed()) {
+                    terminated = true;
+                    iterableOfObjects.close();
+                    return;
+                }
+
+                final T object;
+
+                try {
+                    // checked before waiting for next request, so subscriber that requested
+                    // exactly the number of remaining rows receives onCompleted()
+                    if (!iterator.hasNext()) {
+                        terminated = true; // cursor was closed by iterator
+                        subscriber.onCompleted();
+                        return;
+                    }
+
+                    if (emitted == requested) {
+                        break;
+                    }
+
+                    object = iterator.next();
+                } catch (Exception exception) {
+                    terminated = true;
+                    iterableOfObjects.close();
+                    subscriber.onError(exception);
+                    return;
+                }
+
+                subscriber.onNext(object);
+                emitted++;
+            }
+
+            if (emitted != 0 && requested != Long.MAX_VALUE) {
+                addAndGet(-emitted);
+            }
+        }
+    }
+}
@@ -69,6 +69,19 @@ public abstract class PreparedGet<Result> implements PreparedOperation<Result> {
         public <T> PreparedGetListOfObjects.Builder<T> listOfObjects(@NonNull Class<T> type) {
             return new PreparedGetListOfObjects.Builder<T>(storIOSQLite, type);
         }
+
+        /**
+         * Returns builder for Get Operation that returns result as lazy {@link IterableOfObjects},
+         * which maps rows to objects one by one while you iterate it.
+         *
+         * @param type type of items.
+         * @param <T>  type of items.
+         * @return builder for Get Operation that returns result as {@link IterableOfObjects}.
+         */
+        @NonNull
+        public <T> PreparedGetIterableOfObjects.Builder<T> iterableOfObjects(@NonNull Class<T> type) {
+            return new PreparedGetIterableOfObjects.Builder<T>(storIOSQLite, type);
+        }
     }
 
 }
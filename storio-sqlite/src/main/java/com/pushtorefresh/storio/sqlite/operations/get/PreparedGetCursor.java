@@ -8,6 +8,7 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
@@ -16,10 +17,12 @@ import java.util.HashSet;
 import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.observeOn;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 /**
  * Prepared Get Operation for {@link StorIOSQLite}.
@@ -77,7 +80,7 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
      * the {@link Observable}.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#readScheduler()}.</dd>
      * </dl>
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
@@ -91,6 +94,21 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
     public Observable<Cursor> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
+        return createObservable(storIOSQLite.readScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#readScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null
+     * list with mapped results and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    public Observable<Cursor> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
         final Set<String> tables;
 
         if (query != null) {
@@ -103,15 +121,21 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
         }
 
         if (!tables.isEmpty()) {
-            return storIOSQLite
-                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
-                    .map(MapSomethingToExecuteAsBlocking.newInstance(this))
-                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
-                    .subscribeOn(Schedulers.io());
+            // changes of other rows can not affect result of query by key
+            final Observable<Changes> changes = ChangesOfRowsFilter.apply(storIOSQLite.observeChangesInTables(tables), query);
+
+            // only the latest change matters, each query reads whole result
+            // re-queries are moved from the thread that made changes to the scheduler
+            final Observable<Cursor> observable = observeOn(scheduler, changes.onBackpressureLatest())
+                    .map(MapSomethingToExecuteAsBlocking.newInstance(this)) // each change triggers executeAsBlocking
+                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))); // start stream with first query result
+
+            return subscribeOn(scheduler, observable);
         } else {
-            return Observable
-                    .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                    .subscribeOn(Schedulers.io());
+            return subscribeOn(
+                    scheduler,
+                    Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+            );
         }
     }
 
@@ -0,0 +1,305 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import rx.Observable;
+import rx.Scheduler;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
+
+/**
+ * Prepared Get Operation for {@link StorIOSQLite} that maps rows to objects lazily,
+ * useful for big results (export, aggregation, etc.) that should not be held in memory at once.
+ *
+ * @param <T> type of results.
+ */
+public final class PreparedGetIterableOfObjects<T> extends PreparedGet<IterableOfObjects<T>> {
+
+    @NonNull
+    private final Class<T> type;
+
+    @Nullable
+    private final GetResolver<T> explicitGetResolver;
+
+    PreparedGetIterableOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                 @NonNull Class<T> type,
+                                 @NonNull Query query,
+                                 @Nullable GetResolver<T> explicitGetResolver) {
+        super(storIOSQLite, query);
+        this.type = type;
+        this.explicitGetResolver = explicitGetResolver;
+    }
+
+    PreparedGetIterableOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                 @NonNull Class<T> type,
+                                 @NonNull RawQuery rawQuery,
+                                 @Nullable GetResolver<T> explicitGetResolver) {
+        super(storIOSQLite, rawQuery);
+        this.type = type;
+        this.explicitGetResolver = explicitGetResolver;
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     *
+     * @return non-null {@link IterableOfObjects} with not closed {@link Cursor},
+     * please iterate it till the end or close it.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public IterableOfObjects<T> executeAsBlocking() {
+        try {
+            final GetResolver<T> getResolver;
+
+            if (explicitGetResolver != null) {
+                getResolver = explicitGetResolver;
+            } else {
+                final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+
+                if (typeMapping == null) {
+                    throw new IllegalStateException("This type does not have type mapping: " +
+                            "type = " + type + "," +
+                            "db was not touched by this operation, please add type mapping for this type");
+                }
+
+                getResolver = typeMapping.getResolver();
+            }
+
+            final Cursor cursor;
+
+            if (query != null) {
+                cursor = getResolver.performGet(storIOSQLite, query);
+            } else if (rawQuery != null) {
+                cursor = getResolver.performGet(storIOSQLite, rawQuery);
+            } else {
+                throw new IllegalStateException("Please specify query");
+            }
+
+            return new IterableOfObjects<T>(cursor, getResolver);
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates "Cold" {@link Observable} which will emit {@link IterableOfObjects} once and complete.
+     * <p>
+     * Unlike other Get Operations it's not subscribed to changes of tables from query,
+     * because each emission holds an open {@link Cursor} that should be closed by subscriber.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#readScheduler()}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Observable} which will emit non-null {@link IterableOfObjects}.
+     */
+    @NonNull
+    @Override
+    public Observable<IterableOfObjects<T>> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return createObservable(storIOSQLite.readScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#readScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null {@link IterableOfObjects}.
+     */
+    @NonNull
+    public Observable<IterableOfObjects<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
+    }
+
+    /**
+     * Creates "Cold" {@link Observable} which will emit objects one by one as they are mapped
+     * from {@link Cursor} and complete after the last row.
+     * <p>
+     * Supports backpressure: rows are read and mapped only when they were requested via
+     * {@link rx.Subscriber#request(long)}, so big results can be consumed without holding them in memory.
+     * If you need pages of rows, use {@code createObservableOfObjects().buffer(pageSize)}.
+     * {@link Cursor} is closed after the last row, in case of error or on unsubscribe.
+     * <p>
+     * Not subscribed to changes of tables from query.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#readScheduler()}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Observable} which will emit non-null objects.
+     */
+    @NonNull
+    public Observable<T> createObservableOfObjects() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservableOfObjects()");
+
+        return createObservableOfObjects(storIOSQLite.readScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservableOfObjects()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#readScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null objects.
+     */
+    @NonNull
+    public Observable<T> createObservableOfObjects(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservableOfObjects()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(new OnSubscribeIterableOfObjects<T>(this))
+        );
+    }
+
+    /**
+     * Builder for {@link PreparedGetIterableOfObjects} Operation.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class Builder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+        }
+
+        /**
+         * Required: Specifies query which will be passed to {@link StorIOSQLite}
+         * to get objects.
+         *
+         * @param query non-null query.
+         * @return builder.
+         * @see Query
+         */
+        @NonNull
+        public CompleteBuilder<T> withQuery(@NonNull Query query) {
+            checkNotNull(query, "Please specify query");
+            return new CompleteBuilder<T>(storIOSQLite, type, query);
+        }
+
+        /**
+         * Required: Specifies {@link RawQuery} for Get Operation,
+         * you can use it for "joins" and same constructions which are not allowed for {@link Query}.
+         *
+         * @param rawQuery query.
+         * @return builder.
+         * @see RawQuery
+         */
+        @NonNull
+        public CompleteBuilder<T> withQuery(@NonNull RawQuery rawQuery) {
+            checkNotNull(rawQuery, "Please specify rawQuery");
+            return new CompleteBuilder<T>(storIOSQLite, type, rawQuery);
+        }
+    }
+
+    /**
+     * Compile-safe part of {@link Builder}.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class CompleteBuilder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        @Nullable
+        Query query;
+
+        @Nullable
+        RawQuery rawQuery;
+
+        @Nullable
+        private GetResolver<T> getResolver;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.query = query;
+            rawQuery = null;
+        }
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull RawQuery rawQuery) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.rawQuery = rawQuery;
+            query = null;
+        }
+
+        /**
+         * Optional: Specifies resolver for Get Operation which can be used
+         * to provide custom behavior of Get Operation.
+         * <p>
+         * {@link SQLiteTypeMapping} can be used to set default GetResolver.
+         * If GetResolver is not set via {@link SQLiteTypeMapping}
+         * or explicitly — exception will be thrown.
+         *
+         * @param getResolver nullable resolver for Get Operation.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> withGetResolver(@Nullable GetResolver<T> getResolver) {
+            this.getResolver = getResolver;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PreparedGetIterableOfObjects}.
+         *
+         * @return new instance of {@link PreparedGetIterableOfObjects}.
+         */
+        @NonNull
+        public PreparedGetIterableOfObjects<T> prepare() {
+            if (query != null) {
+                return new PreparedGetIterableOfObjects<T>(
+                        storIOSQLite,
+                        type,
+                        query,
+                        getResolver
+                );
+            } else if (rawQuery != null) {
+                return new PreparedGetIterableOfObjects<T>(
+                        storIOSQLite,
+                        type,
+                        rawQuery,
+                        getResolver
+                );
+            } else {
+                throw new IllegalStateException("Please specify Query or RawQuery");
+            }
+        }
+    }
+}
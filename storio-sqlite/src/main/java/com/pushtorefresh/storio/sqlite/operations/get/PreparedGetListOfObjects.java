@@ -8,6 +8,7 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -19,10 +20,12 @@ import java.util.List;
 import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.observeOn;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 import static java.util.Collections.EMPTY_LIST;
 import static java.util.Collections.unmodifiableList;
 
@@ -39,22 +42,28 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
     @Nullable
     private final GetResolver<T> explicitGetResolver;
 
+    private final boolean skipUnchangedResults;
+
     PreparedGetListOfObjects(@NonNull StorIOSQLite storIOSQLite,
                              @NonNull Class<T> type,
                              @NonNull Query query,
-                             @Nullable GetResolver<T> explicitGetResolver) {
+                             @Nullable GetResolver<T> explicitGetResolver,
+                             boolean skipUnchangedResults) {
         super(storIOSQLite, query);
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipUnchangedResults = skipUnchangedResults;
     }
 
     PreparedGetListOfObjects(@NonNull StorIOSQLite storIOSQLite,
                              @NonNull Class<T> type,
                              @NonNull RawQuery rawQuery,
-                             @Nullable GetResolver<T> explicitGetResolver) {
+                             @Nullable GetResolver<T> explicitGetResolver,
+                             boolean skipUnchangedResults) {
         super(storIOSQLite, rawQuery);
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipUnchangedResults = skipUnchangedResults;
     }
 
     /**
@@ -73,21 +82,7 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
     @Override
     public List<T> executeAsBlocking() {
         try {
-            final GetResolver<T> getResolver;
-
-            if (explicitGetResolver != null) {
-                getResolver = explicitGetResolver;
-            } else {
-                final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
-
-                if (typeMapping == null) {
-                    throw new IllegalStateException("This type does not have type mapping: " +
-                            "type = " + type + "," +
-                            "db was not touched by this operation, please add type mapping for this type");
-                }
-
-                getResolver = typeMapping.getResolver();
-            }
+            final GetResolver<T> getResolver = resolveGetResolver();
 
             final Cursor cursor;
 
@@ -121,6 +116,28 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
         }
     }
 
+    /**
+     * Gets explicit {@link GetResolver} or {@link GetResolver} from type mapping.
+     *
+     * @return non-null {@link GetResolver}.
+     */
+    @NonNull
+    GetResolver<T> resolveGetResolver() {
+        if (explicitGetResolver != null) {
+            return explicitGetResolver;
+        }
+
+        final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+
+        if (typeMapping == null) {
+            throw new IllegalStateException("This type does not have type mapping: " +
+                    "type = " + type + "," +
+                    "db was not touched by this operation, please add type mapping for this type");
+        }
+
+        return typeMapping.getResolver();
+    }
+
     /**
      * Creates "Hot" {@link Observable} which will be subscribed to changes of tables from query
      * and will emit result each time change occurs.
@@ -130,11 +147,14 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
      * the {@link Observable}.
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#readScheduler()}.</dd>
      * </dl>
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
      * it's "Hot" and endless.
+     * <p>
+     * If {@link CompleteBuilder#skipUnchangedResults(boolean)} is enabled, result equal
+     * to the previous emitted one won't be emitted again.
      *
      * @return non-null {@link Observable} which will emit non-null, immutable
      * {@link List} with mapped results and will be subscribed to changes of tables from query,
@@ -145,6 +165,22 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
     public Observable<List<T>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
+        return createObservable(storIOSQLite.readScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#readScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null, immutable
+     * {@link List} with mapped results and will be subscribed to changes of tables from query,
+     * list can be empty.
+     */
+    @NonNull
+    public Observable<List<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
         final Set<String> tables;
 
         if (query != null) {
@@ -156,18 +192,94 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
         }
 
         if (!tables.isEmpty()) {
-            return storIOSQLite
-                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
-                    .map(MapSomethingToExecuteAsBlocking.newInstance(this))
-                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
-                    .subscribeOn(Schedulers.io());
+            // changes of other rows can not affect result of query by key
+            final Observable<Changes> changes = ChangesOfRowsFilter.apply(storIOSQLite.observeChangesInTables(tables), query);
+
+            // only the latest change matters, each query reads whole result
+            // re-queries are moved from the thread that made changes to the scheduler
+            Observable<List<T>> observable = observeOn(scheduler, changes.onBackpressureLatest())
+                    .map(MapSomethingToExecuteAsBlocking.newInstance(this)) // each change triggers executeAsBlocking
+                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))); // start stream with first query result
+
+            if (skipUnchangedResults) {
+                // compares lists via equals() of objects
+                observable = observable.distinctUntilChanged();
+            }
+
+            return subscribeOn(scheduler, observable);
         } else {
-            return Observable
-                    .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                    .subscribeOn(Schedulers.io());
+            return subscribeOn(
+                    scheduler,
+                    Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+            );
         }
     }
 
+    /**
+     * Creates "Hot" {@link Observable} which will be subscribed to changes of tables from query
+     * and will emit {@link ListUpdate} with result and positions of changed objects each time change occurs.
+     * <p>
+     * First {@link ListUpdate} is {@link ListUpdate#reloaded()} and emitted immediately after subscription.
+     * If {@link com.pushtorefresh.storio.sqlite.Changes} contain keys of affected rows
+     * (see {@link com.pushtorefresh.storio.sqlite.AffectedRows}), only these rows are read again
+     * and previous result is patched: updated objects keep their positions and inserted objects
+     * are appended to the end of the list. Otherwise, and for queries with {@code ORDER BY}, {@code LIMIT},
+     * {@code GROUP BY}, {@code HAVING}, {@code DISTINCT} or {@link RawQuery}, whole query is executed again.
+     * Notice, that without {@code ORDER BY} SQLite does not guarantee order of rows,
+     * so patched list may differ in order from the result of the same query executed from scratch.
+     * <p>
+     * Key column should be selected by the query, otherwise results can not be patched.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#readScheduler()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to unsubscribe from this {@link Observable} because
+     * it's "Hot" and endless.
+     *
+     * @return non-null {@link Observable} which will emit non-null {@link ListUpdate}
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    public Observable<ListUpdate<T>> createObservableOfUpdates() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservableOfUpdates()");
+
+        return createObservableOfUpdates(storIOSQLite.readScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservableOfUpdates()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#readScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will emit non-null {@link ListUpdate}
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    public Observable<ListUpdate<T>> createObservableOfUpdates(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservableOfUpdates()");
+
+        final Set<String> tables;
+
+        if (query != null) {
+            tables = Collections.singleton(query.table());
+        } else if (rawQuery != null) {
+            tables = rawQuery.observesTables();
+        } else {
+            throw new IllegalStateException("Please specify query");
+        }
+
+        final Observable<Changes> changes = tables.isEmpty()
+                ? Observable.<Changes>empty()
+                : ChangesOfRowsFilter.apply(storIOSQLite.observeChangesInTables(tables), query);
+
+        // all changes are required to patch result, so they are buffered instead of dropping
+        return subscribeOn(
+                scheduler,
+                IncrementalListOfObjects.observe(this, observeOn(scheduler, changes.onBackpressureBuffer()))
+        );
+    }
+
     /**
      * Builder for {@link PreparedGetListOfObjects} Operation.
      *
@@ -237,6 +349,8 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
         @Nullable
         private GetResolver<T> getResolver;
 
+        private boolean skipUnchangedResults = false;
+
         CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
             this.storIOSQLite = storIOSQLite;
             this.type = type;
@@ -268,6 +382,26 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
             return this;
         }
 
+        /**
+         * Optional: Defines that {@link PreparedGetListOfObjects#createObservable()} should not emit
+         * result of re-query if it's equal to the previous emitted result
+         * (changes of tables from query did not touch rows of this query),
+         * so downstream diffing and re-layout of UI won't be triggered without a reason.
+         * <p>
+         * Results are compared as {@link List}s, so type of objects should implement
+         * {@link Object#equals(Object)}, otherwise all results will be emitted as before.
+         * <p>
+         * By default, all results are emitted.
+         *
+         * @param skipUnchangedResults {@code true} to skip results equal to the previous one.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> skipUnchangedResults(boolean skipUnchangedResults) {
+            this.skipUnchangedResults = skipUnchangedResults;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link PreparedGetListOfObjects}.
          *
@@ -280,14 +414,16 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
                         storIOSQLite,
                         type,
                         query,
-                        getResolver
+                        getResolver,
+                        skipUnchangedResults
                 );
             } else if (rawQuery != null) {
                 return new PreparedGetListOfObjects<T>(
                         storIOSQLite,
                         type,
                         rawQuery,
-                        getResolver
+                        getResolver,
+                        skipUnchangedResults
                 );
             } else {
                 throw new IllegalStateException("Please specify Query or RawQuery");
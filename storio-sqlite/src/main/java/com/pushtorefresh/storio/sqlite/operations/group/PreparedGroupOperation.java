@@ -0,0 +1,194 @@
+package com.pushtorefresh.storio.sqlite.operations.group;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.PreparedOperation;
+import com.pushtorefresh.storio.operations.group.GroupOperationResults;
+import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rx.Observable;
+import rx.Scheduler;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
+
+/**
+ * Prepared Group Operation for {@link StorIOSQLite}.
+ * <p>
+ * Executes multiple Operations (Put, Delete, ExecuteSQL, etc) of the same {@link StorIOSQLite}
+ * one by one in one transaction: all of them are committed or none of them.
+ * Changes made by Operations are delivered to subscribers once, after the transaction.
+ */
+public final class PreparedGroupOperation implements PreparedOperation<GroupOperationResults> {
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    @NonNull
+    private final List<PreparedOperation<?>> operations;
+
+    PreparedGroupOperation(@NonNull StorIOSQLite storIOSQLite, @NonNull List<PreparedOperation<?>> operations) {
+        this.storIOSQLite = storIOSQLite;
+        this.operations = operations;
+    }
+
+    /**
+     * Executes Group Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     *
+     * @return non-null results of Operations.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public GroupOperationResults executeAsBlocking() {
+        try {
+            final StorIOSQLite.Internal internal = storIOSQLite.internal();
+            final Map<PreparedOperation<?>, Object> results = new HashMap<PreparedOperation<?>, Object>(operations.size());
+
+            internal.beginTransaction();
+
+            try {
+                for (final PreparedOperation<?> operation : operations) {
+                    results.put(operation, operation.executeAsBlocking());
+                }
+
+                internal.setTransactionSuccessful();
+            } finally {
+                internal.endTransaction();
+            }
+
+            return GroupOperationResults.newInstance(results);
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates {@link Observable} which will perform Group Operation and send result to observer.
+     * <p>
+     * Returned {@link Observable} will be "Cold Observable", which means that it performs
+     * Operations only after subscribing to it. Also, it emits the result once.
+     * <p>
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
+     * </dl>
+     *
+     * @return non-null {@link Observable} which will perform Group Operation
+     * and send result to observer.
+     */
+    @NonNull
+    @Override
+    public Observable<GroupOperationResults> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Group Operation
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<GroupOperationResults> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
+    }
+
+    /**
+     * Builder for {@link PreparedGroupOperation}.
+     */
+    public static final class Builder {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        public Builder(@NonNull StorIOSQLite storIOSQLite) {
+            this.storIOSQLite = storIOSQLite;
+        }
+
+        /**
+         * Required: Specifies Operations that should be executed in one transaction.
+         * <p>
+         * Operations should be prepared for the same {@link StorIOSQLite},
+         * they are executed in the passed order.
+         *
+         * @param operations non-null list of Operations.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operations(@NonNull List<? extends PreparedOperation<?>> operations) {
+            checkNotNull(operations, "Please specify operations");
+            return new CompleteBuilder(storIOSQLite, operations);
+        }
+
+        /**
+         * Required: Specifies Operations that should be executed in one transaction.
+         * <p>
+         * Operations should be prepared for the same {@link StorIOSQLite},
+         * they are executed in the passed order.
+         *
+         * @param operations non-null array of Operations.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder operations(@NonNull PreparedOperation<?>... operations) {
+            checkNotNull(operations, "Please specify operations");
+            return new CompleteBuilder(storIOSQLite, Arrays.asList(operations));
+        }
+    }
+
+    /**
+     * Compile-time safe part of {@link Builder}.
+     */
+    public static final class CompleteBuilder {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final List<? extends PreparedOperation<?>> operations;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull List<? extends PreparedOperation<?>> operations) {
+            this.storIOSQLite = storIOSQLite;
+            this.operations = operations;
+        }
+
+        /**
+         * Prepares Group Operation.
+         *
+         * @return {@link PreparedGroupOperation} instance.
+         */
+        @NonNull
+        public PreparedGroupOperation prepare() {
+            return new PreparedGroupOperation(
+                    storIOSQLite,
+                    Collections.unmodifiableList(new ArrayList<PreparedOperation<?>>(operations))
+            );
+        }
+    }
+}
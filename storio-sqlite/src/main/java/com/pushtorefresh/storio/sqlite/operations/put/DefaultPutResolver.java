@@ -2,13 +2,20 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
 
@@ -21,6 +28,20 @@ import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
  */
 public abstract class DefaultPutResolver<T> extends PutResolver<T> {
 
+    @NonNull
+    private final StatementBinder<T> statementBinder = new StatementBinder<T>() {
+        @Override
+        public void bind(@NonNull SQLiteStatement statement, @NonNull T object) {
+            bindToInsertStatement(statement, object);
+        }
+
+        @NonNull
+        @Override
+        public ContentValues mapToContentValues(@NonNull T object) {
+            return DefaultPutResolver.this.mapToContentValues(object);
+        }
+    };
+
     /**
      * Converts object of required type to {@link InsertQuery}.
      *
@@ -48,6 +69,95 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
     @NonNull
     protected abstract ContentValues mapToContentValues(@NonNull T object);
 
+    /**
+     * Optional: Defines strategy of Put Operation.
+     * <p>
+     * By default, Put Operation queries db for rows that match {@link #mapToUpdateQuery(Object)}
+     * and then performs insert or update. If this method returns {@code true},
+     * Put Operation performs update first and falls back to insert only if no rows were updated,
+     * which saves one query and allocation of the cursor per object.
+     * <p>
+     * Both strategies give same {@link PutResult}, so it's safe to override it
+     * if {@link #mapToUpdateQuery(Object)} is same query that you would use to check existence of the object
+     * (usually it is, generated resolvers use update-first strategy).
+     *
+     * @return {@code true} to perform update before insert, {@code false} to query db first.
+     */
+    protected boolean updateFirst() {
+        return false;
+    }
+
+    /**
+     * Optional: Returns name of the column that identifies objects of this type,
+     * used to report affected rows in {@link PutResult} and {@link com.pushtorefresh.storio.sqlite.Changes},
+     * so Get Operations that observe other rows of the table won't be re-executed.
+     * <p>
+     * Override it together with {@link #mapToKey(Object)} only if {@link #mapToUpdateQuery(Object)}
+     * updates rows by value of this single column (generated resolvers do it for types with one key column).
+     * If {@link #mapToKey(Object)} returns {@code null} for inserted object, id of inserted row is used as key
+     * only if {@link #keyColumnIsRowId()}, otherwise any row of the table is reported as affected.
+     *
+     * @return name of the key column, or {@code null} (default) if affected rows are not reported.
+     */
+    @Nullable
+    protected String keyColumn() {
+        return null;
+    }
+
+    /**
+     * Optional: Returns {@code true} if {@link #keyColumn()} is {@code INTEGER PRIMARY KEY}
+     * (alias of {@code ROWID}), so id of inserted row is its key.
+     *
+     * @return {@code true} if id of inserted row is value of the key column, {@code false} (default) otherwise.
+     */
+    protected boolean keyColumnIsRowId() {
+        return false;
+    }
+
+    /**
+     * Optional: Maps object to the value of its {@link #keyColumn()}.
+     *
+     * @param object object that should be put.
+     * @return value of the key column, or {@code null} if it's unknown.
+     */
+    @Nullable
+    protected Object mapToKey(@NonNull T object) {
+        return null;
+    }
+
+    /**
+     * Optional: Returns columns which {@link #bindToInsertStatement(SQLiteStatement, Object)} binds,
+     * in order of arguments of the insert statement.
+     * <p>
+     * If columns are returned, inserts and updates bind values of objects directly to the compiled
+     * statements ({@code UPDATE ... SET column=?,...} sets same columns) instead of
+     * {@link #mapToContentValues(Object)}, which saves allocation of {@link ContentValues}
+     * and boxing of values per object (generated resolvers do it, order of columns is fixed at compile time).
+     * Insert should not use {@link InsertQuery#nullColumnHack()} then.
+     * <p>
+     * Put Operation does not call {@link #mapToContentValues(Object)} if columns are returned,
+     * so if you override {@link #mapToContentValues(Object)} (for example, in a subclass of generated resolver),
+     * override this method to return {@code null} or override {@link #bindToInsertStatement(SQLiteStatement, Object)}
+     * accordingly, otherwise your values will not be used.
+     *
+     * @return non-empty array of columns, or {@code null} (default) to insert {@link ContentValues}.
+     */
+    @Nullable
+    protected String[] insertColumns() {
+        return null;
+    }
+
+    /**
+     * Optional: Binds values of the object to the insert or update statement,
+     * see {@link #insertColumns()}. Must be overridden together with it.
+     *
+     * @param statement non-null statement, arguments start from {@code 1}.
+     * @param object    non-null object that should be inserted or updated.
+     */
+    protected void bindToInsertStatement(@NonNull SQLiteStatement statement, @NonNull T object) {
+        throw new IllegalStateException("Please override bindToInsertStatement() together with insertColumns()");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,41 +165,152 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
     @Override
     public PutResult performPut(@NonNull StorIOSQLite storIOSQLite, @NonNull T object) {
         final UpdateQuery updateQuery = mapToUpdateQuery(object);
+        final StorIOSQLite.Internal internal = storIOSQLite.internal();
+
+        // enclosing transaction (Put of collection, Group Operation) already keeps data consistent
+        final boolean ownTransaction = !internal.inTransaction();
 
         // for data consistency in concurrent environment, encapsulate Put Operation into transaction
-        storIOSQLite.internal().beginTransaction();
+        if (ownTransaction) {
+            internal.beginTransaction();
+        }
 
         try {
-            final Cursor cursor = storIOSQLite.internal().query(Query.builder()
-                    .table(updateQuery.table())
-                    .where(nullableString(updateQuery.where()))
-                    .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
-                    .build());
-
-            final PutResult putResult;
-
-            try {
-                final ContentValues contentValues = mapToContentValues(object);
-
-                if (cursor.getCount() == 0) {
-                    final InsertQuery insertQuery = mapToInsertQuery(object);
-                    final long insertedId = storIOSQLite.internal().insert(insertQuery, contentValues);
-                    putResult = PutResult.newInsertResult(insertedId, insertQuery.table());
-                } else {
-                    final int numberOfRowsUpdated = storIOSQLite.internal().update(updateQuery, contentValues);
-                    putResult = PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table());
-                }
-            } finally {
-                cursor.close();
-            }
+            final PutResult putResult = updateFirst()
+                    ? updateOrInsert(storIOSQLite, object, updateQuery)
+                    : queryThenInsertOrUpdate(storIOSQLite, object, updateQuery);
 
             // everything okay
-            storIOSQLite.internal().setTransactionSuccessful();
+            if (ownTransaction) {
+                internal.setTransactionSuccessful();
+            }
 
             return putResult;
         } finally {
             // in case of bad situations, db won't be affected
-            storIOSQLite.internal().endTransaction();
+            if (ownTransaction) {
+                internal.endTransaction();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Inserts objects directly, without query or update for each object,
+     * so same compiled insert statement is reused for all objects of the table.
+     */
+    @NonNull
+    @Override
+    public Map<T, PutResult> performBulkInsert(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
+        final StorIOSQLite.Internal internal = storIOSQLite.internal();
+        final Map<T, PutResult> results = new HashMap<T, PutResult>(objects.size());
+
+        for (final T object : objects) {
+            results.put(object, insert(internal, object));
+        }
+
+        return results;
+    }
+
+    @NonNull
+    private PutResult queryThenInsertOrUpdate(@NonNull StorIOSQLite storIOSQLite, @NonNull T object, @NonNull UpdateQuery updateQuery) {
+        final Cursor cursor = storIOSQLite.internal().query(Query.builder()
+                .table(updateQuery.table())
+                .where(nullableString(updateQuery.where()))
+                .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
+                .build());
+
+        try {
+            if (cursor.getCount() == 0) {
+                return insert(storIOSQLite.internal(), object);
+            } else {
+                final int numberOfRowsUpdated = update(storIOSQLite.internal(), object, updateQuery);
+                return updateResult(object, numberOfRowsUpdated, updateQuery.table());
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @NonNull
+    private PutResult updateOrInsert(@NonNull StorIOSQLite storIOSQLite, @NonNull T object, @NonNull UpdateQuery updateQuery) {
+        final StorIOSQLite.Internal internal = storIOSQLite.internal();
+
+        if (insertColumns() != null) {
+            // values are bound by the binder, no ContentValues to share between update and insert
+            final int numberOfRowsUpdated = update(internal, object, updateQuery);
+
+            return numberOfRowsUpdated > 0
+                    ? updateResult(object, numberOfRowsUpdated, updateQuery.table())
+                    : insert(internal, object);
+        }
+
+        final ContentValues contentValues = mapToContentValues(object);
+
+        final int numberOfRowsUpdated = internal.update(updateQuery, contentValues);
+
+        if (numberOfRowsUpdated > 0) {
+            return updateResult(object, numberOfRowsUpdated, updateQuery.table());
+        } else {
+            return insert(internal, object, contentValues);
         }
     }
+
+    private int update(@NonNull StorIOSQLite.Internal internal, @NonNull T object, @NonNull UpdateQuery updateQuery) {
+        final String[] insertColumns = insertColumns();
+
+        return insertColumns != null
+                ? internal.update(updateQuery, insertColumns, object, statementBinder)
+                : internal.update(updateQuery, mapToContentValues(object));
+    }
+
+    @NonNull
+    private PutResult insert(@NonNull StorIOSQLite.Internal internal, @NonNull T object) {
+        final InsertQuery insertQuery = mapToInsertQuery(object);
+        final String[] insertColumns = insertColumns();
+
+        final long insertedId = insertColumns != null
+                ? internal.insert(insertQuery, insertColumns, object, statementBinder)
+                : internal.insert(insertQuery, mapToContentValues(object));
+
+        return insertResult(object, insertedId, insertQuery.table());
+    }
+
+    @NonNull
+    private PutResult insert(@NonNull StorIOSQLite.Internal internal, @NonNull T object, @NonNull ContentValues contentValues) {
+        final InsertQuery insertQuery = mapToInsertQuery(object);
+        final long insertedId = internal.insert(insertQuery, contentValues);
+        return insertResult(object, insertedId, insertQuery.table());
+    }
+
+    @NonNull
+    private PutResult insertResult(@NonNull T object, long insertedId, @NonNull String table) {
+        final String keyColumn = keyColumn();
+
+        if (keyColumn == null) {
+            return PutResult.newInsertResult(insertedId, table);
+        }
+
+        final Object key = mapToKey(object);
+
+        if (key != null) {
+            return PutResult.newInsertResult(insertedId, AffectedRows.newInstance(table, keyColumn, key.toString()));
+        } else if (keyColumnIsRowId()) {
+            return PutResult.newInsertResult(insertedId, AffectedRows.newInstance(table, keyColumn, String.valueOf(insertedId)));
+        } else {
+            // key of inserted row is unknown
+            return PutResult.newInsertResult(insertedId, table);
+        }
+    }
+
+    @NonNull
+    private PutResult updateResult(@NonNull T object, int numberOfRowsUpdated, @NonNull String table) {
+        final String keyColumn = keyColumn();
+        final Object key = keyColumn != null ? mapToKey(object) : null;
+
+        return key != null
+                ? PutResult.newUpdateResult(numberOfRowsUpdated, AffectedRows.newInstance(table, keyColumn, key.toString()))
+                : PutResult.newUpdateResult(numberOfRowsUpdated, table);
+    }
 }
@@ -9,20 +9,22 @@ import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.internal.PendingChanges;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResults<T>> {
 
@@ -31,16 +33,20 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
     private final boolean useTransaction;
 
+    private final boolean useBulkInsert;
+
     @Nullable
     private final PutResolver<T> explicitPutResolver;
 
     PreparedPutCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
                                    @NonNull Collection<T> objects,
                                    @Nullable PutResolver<T> explicitPutResolver,
-                                   boolean useTransaction) {
+                                   boolean useTransaction,
+                                   boolean useBulkInsert) {
         super(storIOSQLite);
         this.objects = objects;
         this.useTransaction = useTransaction;
+        this.useBulkInsert = useBulkInsert;
         this.explicitPutResolver = explicitPutResolver;
     }
 
@@ -94,13 +100,22 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             boolean transactionSuccessful = false;
 
             try {
-                if (explicitPutResolver != null) {
+                if (useBulkInsert) {
+                    for (final Map.Entry<PutResolver<T>, List<T>> group : groupByPutResolver(objectsAndPutResolvers).entrySet()) {
+                        final Map<T, PutResult> groupResults = group.getKey().performBulkInsert(storIOSQLite, group.getValue());
+                        results.putAll(groupResults);
+
+                        if (!useTransaction) {
+                            internal.notifyAboutChanges(changes(groupResults));
+                        }
+                    }
+                } else if (explicitPutResolver != null) {
                     for (final T object : objects) {
                         final PutResult putResult = explicitPutResolver.performPut(storIOSQLite, object);
                         results.put(object, putResult);
 
                         if (!useTransaction) {
-                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables(), putResult.affectedRows()));
                         }
                     }
                 } else {
@@ -113,7 +128,7 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
                         results.put(object, putResult);
 
                         if (!useTransaction) {
-                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables(), putResult.affectedRows()));
                         }
                     }
                 }
@@ -128,15 +143,9 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
                     // if delete was in transaction and it was successful -> notify about changes
                     if (transactionSuccessful) {
-                        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
-
-                        for (final T object : results.keySet()) {
-                            affectedTables.addAll(results.get(object).affectedTables());
-                        }
-
                         // IMPORTANT: Notifying about change should be done after end of transaction
                         // It'll reduce number of possible deadlock situations
-                        internal.notifyAboutChanges(Changes.newInstance(affectedTables));
+                        internal.notifyAboutChanges(changes(results));
                     }
                 }
             }
@@ -148,6 +157,50 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
         }
     }
 
+    /**
+     * Groups objects by their {@link PutResolver} (and so, in most cases, by table)
+     * to let each resolver insert its objects at once.
+     *
+     * @param objectsAndPutResolvers objects with resolvers from type mappings or {@code null} if explicit resolver was passed.
+     * @return non-null groups of objects in order of the first occurrence of their resolver.
+     */
+    @NonNull
+    private Map<PutResolver<T>, List<T>> groupByPutResolver(@Nullable List<SimpleImmutableEntry<T, PutResolver<T>>> objectsAndPutResolvers) {
+        final Map<PutResolver<T>, List<T>> groups = new LinkedHashMap<PutResolver<T>, List<T>>();
+
+        if (explicitPutResolver != null) {
+            groups.put(explicitPutResolver, new ArrayList<T>(objects));
+        } else {
+            //noinspection ConstantConditions
+            for (final SimpleImmutableEntry<T, PutResolver<T>> objectAndPutResolver : objectsAndPutResolvers) {
+                List<T> group = groups.get(objectAndPutResolver.getValue());
+
+                if (group == null) {
+                    group = new ArrayList<T>();
+                    groups.put(objectAndPutResolver.getValue(), group);
+                }
+
+                group.add(objectAndPutResolver.getKey());
+            }
+        }
+
+        return groups;
+    }
+
+    @NonNull
+    private static <T> Changes changes(@NonNull Map<T, PutResult> results) {
+        // accumulate affected keys directly instead of merging Changes of each object
+        final PendingChanges changes = new PendingChanges();
+
+        for (final PutResult putResult : results.values()) {
+            changes.add(putResult.affectedTables(), putResult.affectedRows());
+        }
+
+        return changes.isEmpty()
+                ? Changes.newInstance(Collections.<String>emptySet())
+                : changes.toChanges();
+    }
+
     /**
      * Creates {@link Observable} which will perform Put Operation and send result to observer.
      * <p>
@@ -156,7 +209,7 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Put Operation.
@@ -167,9 +220,25 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
     public Observable<PutResults<T>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Put Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<PutResults<T>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
@@ -189,6 +258,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
         private boolean useTransaction = true;
 
+        private boolean useBulkInsert = false;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -224,6 +295,25 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             return this;
         }
 
+        /**
+         * Optional: Defines that objects are known to be new and should be inserted
+         * without checking if they are already stored.
+         * <p>
+         * Objects are grouped by {@link PutResolver} and each group is passed to
+         * {@link PutResolver#performBulkInsert(StorIOSQLite, Collection)}, {@link DefaultPutResolver}
+         * inserts them one by one with same compiled statement and without query per object.
+         * Results have same shape as for usual Put Operation.
+         * <p>
+         * By default, bulk insert is not used
+         *
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> useBulkInsert(boolean useBulkInsert) {
+            this.useBulkInsert = useBulkInsert;
+            return this;
+        }
+
         /**
          * Prepares Put Operation
          *
@@ -235,7 +325,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
                     storIOSQLite,
                     objects,
                     putResolver,
-                    useTransaction
+                    useTransaction,
+                    useBulkInsert
             );
         }
     }
@@ -2,6 +2,7 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 
 import android.content.ContentValues;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.StorIOException;
@@ -15,10 +16,11 @@ import java.util.Map;
 import java.util.Set;
 
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.Scheduler;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.RxJavaUtils.subscribeOn;
 
 public final class PreparedPutContentValuesIterable extends PreparedPut<PutResults<ContentValues>> {
 
@@ -72,7 +74,7 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
                     putResults.put(contentValues, putResult);
 
                     if (!useTransaction) {
-                        internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                        internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables(), putResult.affectedRows()));
                     }
                 }
 
@@ -113,7 +115,7 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
      * <p>
      * <dl>
      * <dt><b>Scheduler:</b></dt>
-     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * <dd>Operates on {@link StorIOSQLite#writeScheduler()}.</dd>
      * </dl>
      *
      * @return non-null {@link Observable} which will perform Put Operation.
@@ -124,9 +126,25 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
     public Observable<PutResults<ContentValues>> createObservable() {
         throwExceptionIfRxJavaIsNotAvailable("createObservable()");
 
-        return Observable
-                .create(OnSubscribeExecuteAsBlocking.newInstance(this))
-                .subscribeOn(Schedulers.io());
+        return createObservable(storIOSQLite.writeScheduler());
+    }
+
+    /**
+     * Same as {@link #createObservable()}, but operates on the passed {@link Scheduler}
+     * instead of {@link StorIOSQLite#writeScheduler()}.
+     *
+     * @param scheduler scheduler for the operation or {@code null} to execute it on the thread of subscriber.
+     * @return non-null {@link Observable} which will perform Put Operation.
+     * and send result to observer.
+     */
+    @NonNull
+    public Observable<PutResults<ContentValues>> createObservable(@Nullable Scheduler scheduler) {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return subscribeOn(
+                scheduler,
+                Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))
+        );
     }
 
     /**
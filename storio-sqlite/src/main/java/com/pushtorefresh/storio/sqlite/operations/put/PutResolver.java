@@ -4,6 +4,10 @@ import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Defines behavior of Put Operation (insert or update).
  *
@@ -21,4 +25,27 @@ public abstract class PutResolver<T> {
      */
     @NonNull
     public abstract PutResult performPut(@NonNull StorIOSQLite storIOSQLite, @NonNull T object);
+
+    /**
+     * Performs bulk insert of objects that are known to be new,
+     * see {@link PreparedPutCollectionOfObjects.Builder#useBulkInsert(boolean)}.
+     * <p>
+     * Default implementation just performs {@link #performPut(StorIOSQLite, Object)}
+     * for each object, subclasses can override it to write objects without checking
+     * if they are already stored.
+     *
+     * @param storIOSQLite {@link StorIOSQLite} instance to perform insert into.
+     * @param objects      non-null collection of objects that should be inserted into {@link StorIOSQLite}.
+     * @return non-null map of objects and results of their insert.
+     */
+    @NonNull
+    public Map<T, PutResult> performBulkInsert(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
+        final Map<T, PutResult> results = new HashMap<T, PutResult>(objects.size());
+
+        for (final T object : objects) {
+            results.put(object, performPut(storIOSQLite, object));
+        }
+
+        return results;
+    }
 }
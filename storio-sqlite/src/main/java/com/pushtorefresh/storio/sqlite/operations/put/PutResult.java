@@ -3,6 +3,8 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+
 import java.util.Set;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
@@ -26,7 +28,13 @@ public final class PutResult {
     @NonNull
     private final Set<String> affectedTables;
 
-    private PutResult(@Nullable Long insertedId, @Nullable Integer numberOfRowsUpdated, @NonNull Set<String> affectedTables) {
+    @Nullable
+    private final AffectedRows affectedRows;
+
+    private PutResult(@Nullable Long insertedId,
+                      @Nullable Integer numberOfRowsUpdated,
+                      @NonNull Set<String> affectedTables,
+                      @Nullable AffectedRows affectedRows) {
         if (numberOfRowsUpdated != null && numberOfRowsUpdated < 0) {
             throw new IllegalArgumentException("Number of rows updated must be >= 0");
         }
@@ -44,6 +52,7 @@ public final class PutResult {
         this.insertedId = insertedId;
         this.numberOfRowsUpdated = numberOfRowsUpdated;
         this.affectedTables = unmodifiableSet(affectedTables);
+        this.affectedRows = affectedRows;
     }
 
     /**
@@ -55,7 +64,7 @@ public final class PutResult {
      */
     @NonNull
     public static PutResult newInsertResult(long insertedId, @NonNull Set<String> affectedTables) {
-        return new PutResult(insertedId, null, affectedTables);
+        return new PutResult(insertedId, null, affectedTables, null);
     }
 
     /**
@@ -67,7 +76,20 @@ public final class PutResult {
      */
     @NonNull
     public static PutResult newInsertResult(long insertedId, @NonNull String affectedTable) {
-        return new PutResult(insertedId, null, singleton(affectedTable));
+        return new PutResult(insertedId, null, singleton(affectedTable), null);
+    }
+
+    /**
+     * Creates {@link PutResult} of insert with known key of inserted row.
+     *
+     * @param insertedId   id of new row.
+     * @param affectedRows inserted row, its table is the only affected table.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newInsertResult(long insertedId, @NonNull AffectedRows affectedRows) {
+        checkNotNull(affectedRows, "affectedRows must not be null");
+        return new PutResult(insertedId, null, singleton(affectedRows.table()), affectedRows);
     }
 
     /**
@@ -79,7 +101,7 @@ public final class PutResult {
      */
     @NonNull
     public static PutResult newUpdateResult(int numberOfRowsUpdated, @NonNull Set<String> affectedTables) {
-        return new PutResult(null, numberOfRowsUpdated, affectedTables);
+        return new PutResult(null, numberOfRowsUpdated, affectedTables, null);
     }
 
     /**
@@ -91,7 +113,20 @@ public final class PutResult {
      */
     @NonNull
     public static PutResult newUpdateResult(int numberOfRowsUpdated, @NonNull String affectedTable) {
-        return new PutResult(null, numberOfRowsUpdated, singleton(affectedTable));
+        return new PutResult(null, numberOfRowsUpdated, singleton(affectedTable), null);
+    }
+
+    /**
+     * Creates {@link PutResult} of update with known keys of updated rows.
+     *
+     * @param numberOfRowsUpdated number of rows that were updated, must be {@code >= 0}.
+     * @param affectedRows        updated rows, their table is the only affected table.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newUpdateResult(int numberOfRowsUpdated, @NonNull AffectedRows affectedRows) {
+        checkNotNull(affectedRows, "affectedRows must not be null");
+        return new PutResult(null, numberOfRowsUpdated, singleton(affectedRows.table()), affectedRows);
     }
 
     /**
@@ -170,6 +205,16 @@ public final class PutResult {
         return affectedTables;
     }
 
+    /**
+     * Gets rows that were inserted or updated.
+     *
+     * @return rows that were affected or {@code null} if they are unknown.
+     */
+    @Nullable
+    public AffectedRows affectedRows() {
+        return affectedRows;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -181,7 +226,8 @@ public final class PutResult {
             return false;
         if (numberOfRowsUpdated != null ? !numberOfRowsUpdated.equals(putResult.numberOfRowsUpdated) : putResult.numberOfRowsUpdated != null)
             return false;
-        return affectedTables.equals(putResult.affectedTables);
+        if (!affectedTables.equals(putResult.affectedTables)) return false;
+        return affectedRows != null ? affectedRows.equals(putResult.affectedRows) : putResult.affectedRows == null;
     }
 
     @Override
@@ -189,6 +235,7 @@ public final class PutResult {
         int result = insertedId != null ? insertedId.hashCode() : 0;
         result = 31 * result + (numberOfRowsUpdated != null ? numberOfRowsUpdated.hashCode() : 0);
         result = 31 * result + affectedTables.hashCode();
+        result = 31 * result + (affectedRows != null ? affectedRows.hashCode() : 0);
         return result;
     }
 
@@ -198,6 +245,7 @@ public final class PutResult {
                 "insertedId=" + insertedId +
                 ", numberOfRowsUpdated=" + numberOfRowsUpdated +
                 ", affectedTables=" + affectedTables +
+                ", affectedRows=" + affectedRows +
                 '}';
     }
 }
@@ -0,0 +1,39 @@
+package com.pushtorefresh.storio.sqlite.operations.put;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+
+/**
+ * Binds values of the object directly to the compiled insert or update statement,
+ * without building {@link android.content.ContentValues} for each object.
+ * <p>
+ * See {@link com.pushtorefresh.storio.sqlite.StorIOSQLite.Internal#insert(com.pushtorefresh.storio.sqlite.queries.InsertQuery, String[], Object, StatementBinder)}
+ * and {@link com.pushtorefresh.storio.sqlite.StorIOSQLite.Internal#update(com.pushtorefresh.storio.sqlite.queries.UpdateQuery, String[], Object, StatementBinder)}.
+ *
+ * @param <T> type of objects to bind.
+ */
+public interface StatementBinder<T> {
+
+    /**
+     * Binds values of the object to the statement.
+     * <p>
+     * Arguments of the statement are in the same order as columns passed
+     * together with the binder, indices of arguments start from {@code 1}.
+     *
+     * @param statement non-null statement, its bindings are cleared before each call.
+     * @param object    non-null object which values should be bound.
+     */
+    void bind(@NonNull SQLiteStatement statement, @NonNull T object);
+
+    /**
+     * Converts object to {@link ContentValues} with same columns,
+     * used by implementations of {@link com.pushtorefresh.storio.sqlite.StorIOSQLite.Internal}
+     * that do not compile statements.
+     *
+     * @param object non-null object which values should be inserted or updated.
+     * @return non-null {@link ContentValues}.
+     */
+    @NonNull
+    ContentValues mapToContentValues(@NonNull T object);
+}
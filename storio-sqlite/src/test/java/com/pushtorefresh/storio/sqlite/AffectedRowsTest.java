@@ -0,0 +1,66 @@
+package com.pushtorefresh.storio.sqlite;
+
+import com.pushtorefresh.storio.test.ToStringChecker;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+public class AffectedRowsTest {
+
+    @SuppressWarnings("ConstantConditions")
+    @Test(expected = NullPointerException.class)
+    public void nullTable() {
+        AffectedRows.newInstance(null, "_id", "1");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void emptyKeyColumn() {
+        AffectedRows.newInstance("table", "", "1");
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test(expected = NullPointerException.class)
+    public void nullKeys() {
+        AffectedRows.newInstance("table", "_id", (Set<String>) null);
+    }
+
+    @Test
+    public void newInstanceOneKey() {
+        final AffectedRows affectedRows = AffectedRows.newInstance("table", "_id", "1");
+
+        assertEquals("table", affectedRows.table());
+        assertEquals("_id", affectedRows.keyColumn());
+        assertEquals(singleton("1"), affectedRows.keys());
+    }
+
+    @Test
+    public void newInstanceMultipleKeys() {
+        final Set<String> keys = new HashSet<String>(asList("1", "2"));
+        final AffectedRows affectedRows = AffectedRows.newInstance("table", "_id", keys);
+
+        assertEquals(keys, affectedRows.keys());
+    }
+
+    @Test
+    public void verifyEqualsAndHashCodeImplementation() {
+        EqualsVerifier
+                .forClass(AffectedRows.class)
+                .allFieldsShouldBeUsed()
+                .verify();
+    }
+
+    @Test
+    public void checkToStringImplementation() {
+        ToStringChecker
+                .forClass(AffectedRows.class)
+                .check();
+    }
+}
@@ -9,7 +9,11 @@ import java.util.Set;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class ChangesTest {
@@ -49,6 +53,57 @@ public class ChangesTest {
         assertEquals(affectedTables, changes.affectedTables());
     }
 
+    @Test
+    public void newInstanceWithAffectedRows() {
+        final AffectedRows affectedRows = AffectedRows.newInstance("table1", "_id", "1");
+        final Changes changes = Changes.newInstance(new HashSet<String>(asList("table1", "table2")), affectedRows);
+
+        assertEquals(affectedRows, changes.affectedRows("table1"));
+        assertNull(changes.affectedRows("table2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void affectedRowsOfNotAffectedTable() {
+        Changes.newInstance(singleton("table1"), AffectedRows.newInstance("table2", "_id", "1"));
+    }
+
+    @Test
+    public void mergeShouldUniteTablesAndKeys() {
+        final Changes merged = Changes.merge(asList(
+                Changes.newInstance(AffectedRows.newInstance("table1", "_id", "1")),
+                Changes.newInstance(AffectedRows.newInstance("table1", "_id", "2")),
+                Changes.newInstance("table2")
+        ));
+
+        assertEquals(new HashSet<String>(asList("table1", "table2")), merged.affectedTables());
+        assertEquals(
+                AffectedRows.newInstance("table1", "_id", new HashSet<String>(asList("1", "2"))),
+                merged.affectedRows("table1")
+        );
+        assertNull(merged.affectedRows("table2"));
+    }
+
+    @Test
+    public void mergeShouldForgetRowsIfSomeChangesOfTableHaveNoRows() {
+        final Changes merged = Changes.merge(asList(
+                Changes.newInstance(AffectedRows.newInstance("table1", "_id", "1")),
+                Changes.newInstance("table1"),
+                Changes.newInstance(AffectedRows.newInstance("table1", "_id", "2"))
+        ));
+
+        assertEquals(Changes.newInstance("table1"), merged);
+    }
+
+    @Test
+    public void mergeShouldForgetRowsWithDifferentKeyColumns() {
+        final Changes merged = Changes.merge(asList(
+                Changes.newInstance(AffectedRows.newInstance("table1", "_id", "1")),
+                Changes.newInstance(AffectedRows.newInstance("table1", "email", "a@b.c"))
+        ));
+
+        assertNull(merged.affectedRows("table1"));
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
@@ -63,4 +118,33 @@ public class ChangesTest {
                 .forClass(Changes.class)
                 .check();
     }
+
+    @Test
+    public void newInstanceShouldKeepAffectedRowsOfMultipleTables() {
+        final AffectedRows rows1 = AffectedRows.newInstance("table1", "_id", "1");
+        final AffectedRows rows2 = AffectedRows.newInstance("table2", "_id", "2");
+
+        final Changes changes = Changes.newInstance(
+                new HashSet<String>(asList("table1", "table2", "table3")),
+                asList(rows1, rows2)
+        );
+
+        assertEquals(new HashSet<String>(asList("table1", "table2", "table3")), changes.affectedTables());
+        assertEquals(rows1, changes.affectedRows("table1"));
+        assertEquals(rows2, changes.affectedRows("table2"));
+        assertNull(changes.affectedRows("table3"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newInstanceShouldNotAllowRowsOfNotAffectedTable() {
+        Changes.newInstance(singleton("table1"), singletonList(AffectedRows.newInstance("table2", "_id", "1")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newInstanceShouldNotAllowMultipleRowsOfOneTable() {
+        Changes.newInstance(singleton("table"), asList(
+                AffectedRows.newInstance("table", "_id", "1"),
+                AffectedRows.newInstance("table", "_id", "2")
+        ));
+    }
 }
@@ -0,0 +1,48 @@
+package com.pushtorefresh.storio.sqlite.design;
+
+import com.pushtorefresh.storio.operations.group.GroupOperationResults;
+import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+
+import rx.Observable;
+
+public class GroupOperationDesignTest extends OperationDesignTest {
+
+    @Test
+    public void groupBlocking() {
+        GroupOperationResults groupOperationResults = storIOSQLite()
+                .group()
+                .operations(
+                        storIOSQLite()
+                                .delete()
+                                .byQuery(DeleteQuery.builder()
+                                        .table("users")
+                                        .build())
+                                .prepare(),
+                        storIOSQLite()
+                                .executeSQL()
+                                .withQuery(RawQuery.builder()
+                                        .query("VACUUM")
+                                        .build())
+                                .prepare()
+                )
+                .prepare()
+                .executeAsBlocking();
+    }
+
+    @Test
+    public void groupObservable() {
+        Observable<GroupOperationResults> observable = storIOSQLite()
+                .group()
+                .operations(storIOSQLite()
+                        .delete()
+                        .byQuery(DeleteQuery.builder()
+                                .table("users")
+                                .build())
+                        .prepare())
+                .prepare()
+                .createObservable();
+    }
+}
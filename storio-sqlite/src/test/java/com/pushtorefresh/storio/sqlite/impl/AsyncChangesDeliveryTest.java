@@ -0,0 +1,162 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import rx.Subscriber;
+import rx.observers.TestSubscriber;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class AsyncChangesDeliveryTest {
+
+    private static class ManualExecutor implements Executor {
+
+        @NonNull
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        @Override
+        public void execute(@NonNull Runnable task) {
+            tasks.add(task);
+        }
+
+        void runNextTask() {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void shouldDeliverChangesInOrderOnExecutor() {
+        final ManualExecutor executor = new ManualExecutor();
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+        final AsyncChangesDelivery asyncChangesDelivery = new AsyncChangesDelivery(executor, changesDispatcher, 10);
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+        changesDispatcher.observe(new HashSet<String>(asList("table1", "table2"))).subscribe(testSubscriber);
+
+        asyncChangesDelivery.enqueue(Changes.newInstance("table1"));
+        asyncChangesDelivery.enqueue(Changes.newInstance("table2"));
+
+        testSubscriber.assertNoValues();
+
+        // only one delivery task at a time
+        assertEquals(1, executor.tasks.size());
+        assertEquals(2, asyncChangesDelivery.numberOfQueuedChanges());
+
+        executor.runNextTask();
+
+        testSubscriber.assertReceivedOnNext(asList(Changes.newInstance("table1"), Changes.newInstance("table2")));
+        assertEquals(0, asyncChangesDelivery.numberOfQueuedChanges());
+        assertEquals(0, executor.tasks.size());
+
+        // next changes should schedule new delivery
+        asyncChangesDelivery.enqueue(Changes.newInstance("table1"));
+        assertEquals(1, executor.tasks.size());
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldMergeChangesIfQueueIsFull() {
+        final ManualExecutor executor = new ManualExecutor();
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+        final AsyncChangesDelivery asyncChangesDelivery = new AsyncChangesDelivery(executor, changesDispatcher, 2);
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+        changesDispatcher.observe(new HashSet<String>(asList("table1", "table2", "table3"))).subscribe(testSubscriber);
+
+        asyncChangesDelivery.enqueue(Changes.newInstance("table1"));
+        asyncChangesDelivery.enqueue(Changes.newInstance("table2"));
+        asyncChangesDelivery.enqueue(Changes.newInstance("table3"));
+
+        assertEquals(2, asyncChangesDelivery.numberOfQueuedChanges());
+
+        executor.runNextTask();
+
+        testSubscriber.assertReceivedOnNext(asList(
+                Changes.newInstance("table1"),
+                Changes.newInstance(new HashSet<String>(asList("table2", "table3")))
+        ));
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldDeliverChangesInCurrentThreadIfExecutorRejectedThem() {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+        final AsyncChangesDelivery asyncChangesDelivery = new AsyncChangesDelivery(new Executor() {
+            @Override
+            public void execute(@NonNull Runnable task) {
+                throw new RejectedExecutionException();
+            }
+        }, changesDispatcher, 10);
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+        changesDispatcher.observe(singleton("table1")).subscribe(testSubscriber);
+
+        asyncChangesDelivery.enqueue(Changes.newInstance("table1"));
+
+        testSubscriber.assertValue(Changes.newInstance("table1"));
+        assertEquals(0, asyncChangesDelivery.numberOfQueuedChanges());
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldDeliverRestOfChangesIfSubscriberThrown() {
+        final ManualExecutor executor = new ManualExecutor();
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+        final AsyncChangesDelivery asyncChangesDelivery = new AsyncChangesDelivery(executor, changesDispatcher, 10);
+
+        final List<Changes> receivedChanges = new ArrayList<Changes>();
+
+        // unsafeSubscribe() to let exception go up to the Executor like in case of fatal error
+        changesDispatcher.observe(new HashSet<String>(asList("table1", "table2"))).unsafeSubscribe(new Subscriber<Changes>() {
+            @Override
+            public void onCompleted() {
+            }
+
+            @Override
+            public void onError(Throwable e) {
+            }
+
+            @Override
+            public void onNext(Changes changes) {
+                receivedChanges.add(changes);
+
+                if (changes.affectedTables().contains("table1")) {
+                    throw new IllegalStateException("test exception");
+                }
+            }
+        });
+
+        asyncChangesDelivery.enqueue(Changes.newInstance("table1"));
+        asyncChangesDelivery.enqueue(Changes.newInstance("table2"));
+
+        try {
+            executor.runNextTask();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("test exception", expected.getMessage());
+        }
+
+        // rest of changes should be delivered by the next task
+        assertEquals(1, executor.tasks.size());
+
+        executor.runNextTask();
+
+        assertEquals(asList(Changes.newInstance("table1"), Changes.newInstance("table2")), receivedChanges);
+    }
+}
@@ -0,0 +1,108 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+public class ChangesDispatcherTest {
+
+    @Test
+    public void shouldDeliverChangesOnlyToSubscribersOfAffectedTables() {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+
+        final TestSubscriber<Changes> testSubscriber1 = new TestSubscriber<Changes>();
+        final TestSubscriber<Changes> testSubscriber2 = new TestSubscriber<Changes>();
+
+        changesDispatcher.observe(singleton("table1")).subscribe(testSubscriber1);
+        changesDispatcher.observe(singleton("table2")).subscribe(testSubscriber2);
+
+        changesDispatcher.dispatch(Changes.newInstance("table1"));
+        changesDispatcher.dispatch(Changes.newInstance("table2"));
+        changesDispatcher.dispatch(Changes.newInstance("table3"));
+
+        testSubscriber1.assertValue(Changes.newInstance("table1"));
+        testSubscriber2.assertValue(Changes.newInstance("table2"));
+
+        testSubscriber1.unsubscribe();
+        testSubscriber2.unsubscribe();
+    }
+
+    @Test
+    public void shouldDeliverChangesIfObservedTableIsPartOfThem() {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changesDispatcher.observe(singleton("table3")).subscribe(testSubscriber);
+
+        // Notice, that required table is just a part of one Changes object
+        final Changes changes = Changes.newInstance(new HashSet<String>(asList("table1", "table2", "table3")));
+
+        changesDispatcher.dispatch(Changes.newInstance("table1"));
+        changesDispatcher.dispatch(changes);
+
+        testSubscriber.assertValue(changes);
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void subscriberOfMultipleAffectedTablesShouldReceiveChangesOnce() {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changesDispatcher
+                .observe(new HashSet<String>(asList("table1", "table2")))
+                .subscribe(testSubscriber);
+
+        final Changes changes = Changes.newInstance(new HashSet<String>(asList("table1", "table2")));
+
+        changesDispatcher.dispatch(changes);
+
+        testSubscriber.assertValue(changes);
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void unsubscribeShouldRemoveSubscriberFromIndex() {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+
+        final TestSubscriber<Changes> testSubscriber1 = new TestSubscriber<Changes>();
+        final TestSubscriber<Changes> testSubscriber2 = new TestSubscriber<Changes>();
+
+        final Subscription subscription1 = changesDispatcher
+                .observe(new HashSet<String>(asList("table1", "table2")))
+                .subscribe(testSubscriber1);
+
+        final Subscription subscription2 = changesDispatcher
+                .observe(singleton("table2"))
+                .subscribe(testSubscriber2);
+
+        assertEquals(2, changesDispatcher.numberOfObservedTables());
+
+        subscription1.unsubscribe();
+
+        assertEquals(1, changesDispatcher.numberOfObservedTables());
+
+        changesDispatcher.dispatch(Changes.newInstance("table1"));
+        changesDispatcher.dispatch(Changes.newInstance("table2"));
+
+        testSubscriber1.assertNoValues();
+        testSubscriber2.assertValue(Changes.newInstance("table2"));
+
+        subscription2.unsubscribe();
+
+        assertEquals(0, changesDispatcher.numberOfObservedTables());
+    }
+}
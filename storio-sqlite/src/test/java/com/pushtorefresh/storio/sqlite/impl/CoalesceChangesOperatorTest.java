@@ -0,0 +1,131 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+import rx.subjects.PublishSubject;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CoalesceChangesOperatorTest {
+
+    @Test
+    public void shouldMergeChangesReceivedDuringWindow() {
+        final TestScheduler testScheduler = new TestScheduler();
+        final PublishSubject<Changes> changes = PublishSubject.create();
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changes
+                .lift(new CoalesceChangesOperator(100, testScheduler))
+                .subscribe(testSubscriber);
+
+        changes.onNext(Changes.newInstance("table1"));
+        testScheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+        changes.onNext(Changes.newInstance("table2"));
+        changes.onNext(Changes.newInstance("table1"));
+
+        // window is not finished yet
+        testSubscriber.assertNoValues();
+
+        testScheduler.advanceTimeBy(50, TimeUnit.MILLISECONDS);
+
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<String>(asList("table1", "table2"))));
+
+        // next change opens new window
+        changes.onNext(Changes.newInstance("table3"));
+        testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        testSubscriber.assertReceivedOnNext(asList(
+                Changes.newInstance(new HashSet<String>(asList("table1", "table2"))),
+                Changes.newInstance("table3")
+        ));
+    }
+
+    @Test
+    public void continuousChangesShouldNotDelayEmissionForLongerThanWindow() {
+        final TestScheduler testScheduler = new TestScheduler();
+        final PublishSubject<Changes> changes = PublishSubject.create();
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changes
+                .lift(new CoalesceChangesOperator(100, testScheduler))
+                .subscribe(testSubscriber);
+
+        for (int i = 0; i < 10; i++) {
+            changes.onNext(Changes.newInstance("table"));
+            testScheduler.advanceTimeBy(30, TimeUnit.MILLISECONDS);
+        }
+
+        // windows [0, 100] and [120, 220] were finished, [240, 340] is still open
+        testSubscriber.assertValueCount(2);
+
+        testScheduler.advanceTimeBy(40, TimeUnit.MILLISECONDS);
+        testSubscriber.assertValueCount(3);
+    }
+
+    @Test
+    public void shouldEmitPendingChangesOnCompleted() {
+        final TestScheduler testScheduler = new TestScheduler();
+        final PublishSubject<Changes> changes = PublishSubject.create();
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changes
+                .lift(new CoalesceChangesOperator(100, testScheduler))
+                .subscribe(testSubscriber);
+
+        changes.onNext(Changes.newInstance("table"));
+        changes.onCompleted();
+
+        testSubscriber.assertValue(Changes.newInstance("table"));
+        testSubscriber.assertCompleted();
+
+        // nothing should be emitted after completion
+        testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        testSubscriber.assertValueCount(1);
+    }
+
+    @Test
+    public void unsubscribeShouldCancelWindow() {
+        final TestScheduler testScheduler = new TestScheduler();
+        final PublishSubject<Changes> changes = PublishSubject.create();
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changes
+                .lift(new CoalesceChangesOperator(100, testScheduler))
+                .subscribe(testSubscriber);
+
+        changes.onNext(Changes.newInstance("table"));
+        assertTrue(changes.hasObservers());
+
+        testSubscriber.unsubscribe();
+        assertFalse(changes.hasObservers());
+
+        testScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        testSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void applyShouldEmitOnReadScheduler() {
+        final TestScheduler readScheduler = new TestScheduler();
+        final PublishSubject<Changes> changes = PublishSubject.create();
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        CoalesceChangesOperator
+                .apply(changes, 100, readScheduler)
+                .subscribe(testSubscriber);
+
+        changes.onNext(Changes.newInstance("table"));
+        testSubscriber.assertNoValues();
+
+        readScheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        testSubscriber.assertValue(Changes.newInstance("table"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class DatabaseConfigurationTest {
+
+    @Test
+    public void emptyConfiguration() {
+        assertTrue(new DatabaseConfiguration(false, null, null, null, null).isEmpty());
+        assertFalse(new DatabaseConfiguration(true, null, null, null, null).isEmpty());
+        assertFalse(new DatabaseConfiguration(false, null, null, 100, null).isEmpty());
+    }
+
+    @Test
+    public void shouldApplyPageSizeBeforeAndOtherPragmasAfterEnablingWriteAheadLogging() {
+        final SQLiteDatabase db = mock(SQLiteDatabase.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        when(db.rawQuery(anyString(), (String[]) isNull())).thenReturn(cursor);
+
+        final DatabaseConfiguration configuration = new DatabaseConfiguration(
+                true,
+                DefaultStorIOSQLite.SynchronousMode.NORMAL,
+                8192,
+                -2000,
+                268435456L
+        );
+
+        assertSame(db, configuration.applyIfNeeded(db));
+
+        final InOrder inOrder = inOrder(db, cursor);
+
+        inOrder.verify(db).execSQL("PRAGMA page_size = 8192");
+        inOrder.verify(db).enableWriteAheadLogging();
+        inOrder.verify(db).execSQL("PRAGMA synchronous = NORMAL");
+        inOrder.verify(db).execSQL("PRAGMA cache_size = -2000");
+        inOrder.verify(db).rawQuery("PRAGMA mmap_size = 268435456", null);
+        inOrder.verify(cursor).moveToFirst();
+        inOrder.verify(cursor).close();
+    }
+
+    @Test
+    public void shouldApplyConfigurationOncePerDatabase() {
+        final SQLiteDatabase db = mock(SQLiteDatabase.class);
+        final DatabaseConfiguration configuration = new DatabaseConfiguration(true, null, null, null, null);
+
+        configuration.applyIfNeeded(db);
+        configuration.applyIfNeeded(db);
+
+        verify(db, times(1)).enableWriteAheadLogging();
+
+        // SQLiteOpenHelper reopened the database
+        final SQLiteDatabase reopenedDb = mock(SQLiteDatabase.class);
+
+        configuration.applyIfNeeded(reopenedDb);
+
+        verify(reopenedDb).enableWriteAheadLogging();
+    }
+
+    @Test
+    public void shouldNotConfigureReadOnlyDatabase() {
+        final SQLiteDatabase db = mock(SQLiteDatabase.class);
+        when(db.isReadOnly()).thenReturn(true);
+
+        final DatabaseConfiguration configuration = new DatabaseConfiguration(true, null, null, null, null);
+
+        assertSame(db, configuration.applyIfNeeded(db));
+
+        verify(db).isReadOnly();
+        verifyZeroInteractions(db);
+    }
+}
@@ -1,24 +1,56 @@
 package com.pushtorefresh.storio.sqlite.impl;
 
+import android.content.ContentValues;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.support.annotation.NonNull;
 
+import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
 import com.pushtorefresh.storio.sqlite.operations.put.PutResolver;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.io.IOException;
-
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import rx.Scheduler;
+import rx.functions.Action0;
+import rx.functions.Action1;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -53,6 +85,195 @@ public class DefaultStorIOSQLiteTest {
                 .addTypeMapping(Object.class, null);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCompiledStatementsCacheSize() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .compiledStatementsCacheSize(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageSizeShouldBePowerOfTwo() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .pageSize(5000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooBigPageSize() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .pageSize(131072);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMmapSize() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .mmapSize(-1);
+    }
+
+    @Test
+    public void shouldConfigureDatabaseBeforeFirstUsage() {
+        final SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        final SQLiteDatabase db = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(db);
+        when(sqLiteOpenHelper.getReadableDatabase()).thenReturn(db);
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .writeAheadLoggingEnabled(true)
+                .synchronousMode(DefaultStorIOSQLite.SynchronousMode.NORMAL)
+                .build();
+
+        storIOSQLite.internal().rawQuery(RawQuery.builder().query("SELECT * FROM test").build());
+        storIOSQLite.internal().executeSQL(RawQuery.builder().query("DELETE FROM test").build());
+
+        verify(db, times(1)).execSQL("PRAGMA synchronous = NORMAL");
+        verify(db, times(1)).enableWriteAheadLogging();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroMaxReadThreads() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .maxReadThreads(0);
+    }
+
+    @Test
+    public void shouldUseSpecifiedSchedulers() {
+        final Scheduler readScheduler = Schedulers.immediate();
+        final Scheduler writeScheduler = Schedulers.trampoline();
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .readScheduler(readScheduler)
+                .writeScheduler(writeScheduler)
+                .build();
+
+        assertSame(readScheduler, storIOSQLite.readScheduler());
+        assertSame(writeScheduler, storIOSQLite.writeScheduler());
+    }
+
+    @Test
+    public void defaultSchedulerShouldBeUsedForReadsAndWrites() {
+        final Scheduler scheduler = Schedulers.immediate();
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .defaultScheduler(scheduler)
+                .build();
+
+        assertSame(scheduler, storIOSQLite.readScheduler());
+        assertSame(scheduler, storIOSQLite.writeScheduler());
+    }
+
+    @Test
+    public void nullDefaultSchedulerShouldDisableScheduling() {
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .defaultScheduler(null)
+                .build();
+
+        assertNull(storIOSQLite.readScheduler());
+        assertNull(storIOSQLite.writeScheduler());
+    }
+
+    @Test
+    public void shouldHaveSeparateSchedulersForReadsAndWritesByDefault() {
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .build();
+
+        assertNotNull(storIOSQLite.readScheduler());
+        assertNotNull(storIOSQLite.writeScheduler());
+        assertNotSame(storIOSQLite.readScheduler(), storIOSQLite.writeScheduler());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeChangesCoalescingWindow() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .changesCoalescingWindow(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void subMillisecondChangesCoalescingWindow() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .changesCoalescingWindow(500, TimeUnit.MICROSECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaxQueuedChanges() {
+        DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .changesDeliveryExecutor(mock(Executor.class), 0);
+    }
+
+    @Test
+    public void shouldDeliverChangesOnChangesDeliveryExecutor() {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .changesDeliveryExecutor(new Executor() {
+                    @Override
+                    public void execute(@NonNull Runnable task) {
+                        tasks.add(task);
+                    }
+                })
+                .build();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChangesInTable("table1")
+                .subscribe(testSubscriber);
+
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+
+        // writer thread does not deliver changes
+        testSubscriber.assertNoValues();
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+
+        testSubscriber.assertValue(Changes.newInstance("table1"));
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldNotCompileStatementsIfCacheIsDisabled() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        DefaultStorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .compiledStatementsCacheSize(0)
+                .build();
+
+        InsertQuery insertQuery = InsertQuery.builder()
+                .table("test_table")
+                .nullColumnHack("test_column")
+                .build();
+
+        ContentValues contentValues = mock(ContentValues.class);
+
+        storIOSQLite
+                .internal()
+                .insert(insertQuery, contentValues);
+
+        verify(sqLiteDatabase).insertOrThrow(eq("test_table"), eq("test_column"), same(contentValues));
+        verifyNoMoreInteractions(sqLiteDatabase);
+
+        assertEquals(0, storIOSQLite.compiledStatementsCacheHitCount());
+        assertEquals(0, storIOSQLite.compiledStatementsCacheMissCount());
+    }
+
     @Test
     public void shouldReturnNullIfNoTypeMappingsRegistered() {
         class TestItem {
@@ -252,6 +473,40 @@ public class DefaultStorIOSQLiteTest {
         verify(sqLiteOpenHelper).close();
     }
 
+    @Test
+    public void closeShouldShutDownDefaultSchedulers() throws IOException {
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .build();
+
+        storIOSQLite.close();
+
+        for (Scheduler scheduler : asList(storIOSQLite.readScheduler(), storIOSQLite.writeScheduler())) {
+            try {
+                scheduler.createWorker().schedule(mock(Action0.class));
+                fail();
+            } catch (RejectedExecutionException expected) {
+                // executor of the lane was shut down
+            }
+        }
+    }
+
+    @Test
+    public void closeShouldNotAffectSpecifiedSchedulers() throws IOException {
+        final Scheduler scheduler = Schedulers.immediate();
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .defaultScheduler(scheduler)
+                .build();
+
+        storIOSQLite.close();
+
+        Action0 action = mock(Action0.class);
+        storIOSQLite.readScheduler().createWorker().schedule(action);
+        verify(action).call();
+    }
+
     @Test
     public void shouldPassSQLToExecSQL() {
         SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
@@ -320,4 +575,341 @@ public class DefaultStorIOSQLiteTest {
             storIOSQLite.internal().endTransaction();
         }
     }
+
+    @Test
+    public void shouldNotifyAboutAllChangesOfTransactionOnce() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChangesInTable("table1")
+                .subscribe(testSubscriber);
+
+        storIOSQLite.internal().beginTransaction();
+
+        try {
+            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table2"));
+            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+
+            storIOSQLite.internal().setTransactionSuccessful();
+        } finally {
+            storIOSQLite.internal().endTransaction();
+        }
+
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<String>(asList("table1", "table2"))));
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void nestedTransactionShouldBeStartedAsSavepoint() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        assertFalse(storIOSQLite.internal().inTransaction());
+
+        storIOSQLite.internal().beginTransaction();
+        assertTrue(storIOSQLite.internal().inTransaction());
+
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        assertFalse(storIOSQLite.internal().inTransaction());
+
+        InOrder inOrder = inOrder(sqLiteDatabase);
+        inOrder.verify(sqLiteDatabase).beginTransaction();
+        inOrder.verify(sqLiteDatabase).execSQL("SAVEPOINT storio_savepoint_1");
+        inOrder.verify(sqLiteDatabase).execSQL("RELEASE storio_savepoint_1");
+        inOrder.verify(sqLiteDatabase).setTransactionSuccessful();
+        inOrder.verify(sqLiteDatabase).endTransaction();
+        verifyNoMoreInteractions(sqLiteDatabase);
+    }
+
+    @Test
+    public void failedNestedTransactionShouldBeRolledBackToSavepoint() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        storIOSQLite.internal().beginTransaction();
+
+        // nested transaction is not marked as successful
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().endTransaction();
+
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        InOrder inOrder = inOrder(sqLiteDatabase);
+        inOrder.verify(sqLiteDatabase).beginTransaction();
+        inOrder.verify(sqLiteDatabase).execSQL("SAVEPOINT storio_savepoint_1");
+        inOrder.verify(sqLiteDatabase).execSQL(";ROLLBACK TO storio_savepoint_1");
+        inOrder.verify(sqLiteDatabase).execSQL("RELEASE storio_savepoint_1");
+        inOrder.verify(sqLiteDatabase).setTransactionSuccessful();
+        inOrder.verify(sqLiteDatabase).endTransaction();
+        verifyNoMoreInteractions(sqLiteDatabase);
+    }
+
+    @Test
+    public void inTransactionShouldCommitResultOfCallable() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final String result = storIOSQLite.inTransaction(new Callable<String>() {
+            @Override
+            public String call() {
+                assertTrue(storIOSQLite.internal().inTransaction());
+                return "result";
+            }
+        });
+
+        assertEquals("result", result);
+
+        InOrder inOrder = inOrder(sqLiteDatabase);
+        inOrder.verify(sqLiteDatabase).beginTransaction();
+        inOrder.verify(sqLiteDatabase).setTransactionSuccessful();
+        inOrder.verify(sqLiteDatabase).endTransaction();
+    }
+
+    @Test
+    public void inTransactionShouldRollbackIfCallableFailed() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final Exception cause = new Exception("test exception");
+
+        try {
+            storIOSQLite.inTransaction(new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    throw cause;
+                }
+            });
+            fail();
+        } catch (StorIOException expected) {
+            assertSame(cause, expected.getCause());
+        }
+
+        verify(sqLiteDatabase).beginTransaction();
+        verify(sqLiteDatabase, never()).setTransactionSuccessful();
+        verify(sqLiteDatabase).endTransaction();
+        assertFalse(storIOSQLite.internal().inTransaction());
+    }
+
+    @Test
+    public void inTransactionShouldNotWrapRuntimeExceptions() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final StorIOException exceptionOfOperation = new StorIOException("test exception");
+
+        try {
+            storIOSQLite.inTransaction(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    // nested transaction, for example Operation of collection
+                    return storIOSQLite.inTransaction(new Callable<Object>() {
+                        @Override
+                        public Object call() {
+                            throw exceptionOfOperation;
+                        }
+                    });
+                }
+            });
+            fail();
+        } catch (StorIOException expected) {
+            assertSame(exceptionOfOperation, expected);
+        }
+
+        assertFalse(storIOSQLite.internal().inTransaction());
+    }
+
+    @Test
+    public void shouldDropChangesOfRolledBackTransactions() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChangesInTables(new HashSet<String>(asList("table1", "table2", "table3")))
+                .subscribe(testSubscriber);
+
+        // rolled back transaction
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+        storIOSQLite.internal().endTransaction();
+
+        testSubscriber.assertNoValues();
+
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+
+        // committed nested transaction
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table2"));
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        // rolled back nested transaction
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table3"));
+        storIOSQLite.internal().endTransaction();
+
+        testSubscriber.assertNoValues();
+
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<String>(asList("table1", "table2"))));
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldNotLoseChangesOfConcurrentTransactions() throws InterruptedException {
+        final int numberOfThreads = 16;
+        final int numberOfTransactionsPerThread = 100;
+
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final Set<String> tables = new HashSet<String>();
+
+        for (int i = 0; i < numberOfThreads * numberOfTransactionsPerThread; i++) {
+            tables.add("table" + i);
+        }
+
+        final Set<String> notifiedTables = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        storIOSQLite
+                .observeChangesInTables(tables)
+                .subscribe(new Action1<Changes>() {
+                    @Override
+                    public void call(Changes changes) {
+                        notifiedTables.addAll(changes.affectedTables());
+                    }
+                });
+
+        final CountDownLatch startAllThreadsLatch = new CountDownLatch(1);
+        final CountDownLatch allThreadsFinishedLatch = new CountDownLatch(numberOfThreads);
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            final int threadNumber = i;
+
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startAllThreadsLatch.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+
+                    for (int j = 0; j < numberOfTransactionsPerThread; j++) {
+                        final String table = "table" + (threadNumber * numberOfTransactionsPerThread + j);
+
+                        if (j % 2 == 0) {
+                            storIOSQLite.internal().beginTransaction();
+                            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(table));
+                            storIOSQLite.internal().setTransactionSuccessful();
+                            storIOSQLite.internal().endTransaction();
+                        } else {
+                            storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(table));
+                        }
+                    }
+
+                    allThreadsFinishedLatch.countDown();
+                }
+            }).start();
+        }
+
+        startAllThreadsLatch.countDown();
+
+        assertTrue(allThreadsFinishedLatch.await(20, TimeUnit.SECONDS));
+        assertEquals(tables, notifiedTables);
+    }
+
+    @Test
+    public void shouldDeliverChangesOfOtherThreadsDuringTransaction() throws InterruptedException {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        final StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChangesInTables(new HashSet<String>(asList("table1", "table2")))
+                .subscribe(testSubscriber);
+
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table1"));
+
+        final Thread otherThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("table2"));
+            }
+        });
+
+        otherThread.start();
+        otherThread.join();
+
+        // changes of transaction are withheld, changes of other thread are not
+        testSubscriber.assertValue(Changes.newInstance("table2"));
+
+        storIOSQLite.internal().setTransactionSuccessful();
+        storIOSQLite.internal().endTransaction();
+
+        testSubscriber.assertValues(Changes.newInstance("table2"), Changes.newInstance("table1"));
+        testSubscriber.unsubscribe();
+    }
 }
+
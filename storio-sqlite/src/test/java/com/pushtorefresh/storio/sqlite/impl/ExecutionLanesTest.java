@@ -0,0 +1,71 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func0;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionLanesTest {
+
+    @Test
+    public void laneExecutorShouldBeBoundedAndStopIdleThreads() {
+        final ThreadPoolExecutor executor = ExecutionLanes.newLaneExecutor(3, "test-");
+
+        assertEquals(3, executor.getCorePoolSize());
+        assertEquals(3, executor.getMaximumPoolSize());
+        assertTrue(executor.allowsCoreThreadTimeOut());
+        assertEquals(ExecutionLanes.KEEP_ALIVE_SECONDS, executor.getKeepAliveTime(TimeUnit.SECONDS));
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void laneExecutorShouldCreateNamedDaemonThreads() throws InterruptedException {
+        final ThreadPoolExecutor executor = ExecutionLanes.newLaneExecutor(1, "test-");
+        final AtomicReference<Thread> thread = new AtomicReference<Thread>();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                thread.set(Thread.currentThread());
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals("test-1", thread.get().getName());
+        assertTrue(thread.get().isDaemon());
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void writesShouldBeExecutedOnOneThreadByDefault() {
+        final ThreadPoolExecutor writeExecutor = ExecutionLanes.newWriteExecutor();
+        final Scheduler writeScheduler = ExecutionLanes.scheduler(writeExecutor);
+
+        final Observable<String> threadName = Observable
+                .defer(new Func0<Observable<String>>() {
+                    @Override
+                    public Observable<String> call() {
+                        return Observable.just(Thread.currentThread().getName());
+                    }
+                })
+                .subscribeOn(writeScheduler);
+
+        assertEquals("StorIOSQLite-write-1", threadName.toBlocking().single());
+        assertEquals("StorIOSQLite-write-1", threadName.toBlocking().single());
+
+        writeExecutor.shutdown();
+    }
+}
@@ -0,0 +1,179 @@
+package com.pushtorefresh.storio.sqlite.integration;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.BuildConfig;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.impl.DefaultStorIOSQLite;
+import com.pushtorefresh.storio.sqlite.operations.put.PutResult;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class CompiledStatementsCacheTest extends BaseTest {
+
+    @Test
+    public void shouldReuseCompiledStatementForInserts() {
+        final DefaultStorIOSQLite defaultStorIOSQLite = (DefaultStorIOSQLite) storIOSQLite;
+
+        final long hitCountBefore = defaultStorIOSQLite.compiledStatementsCacheHitCount();
+        final long missCountBefore = defaultStorIOSQLite.compiledStatementsCacheMissCount();
+
+        final List<User> users = putUsersBlocking(10);
+
+        // Only first insert should compile the statement
+        assertEquals(missCountBefore + 1, defaultStorIOSQLite.compiledStatementsCacheMissCount());
+        assertEquals(hitCountBefore + 9, defaultStorIOSQLite.compiledStatementsCacheHitCount());
+
+        final List<User> usersFromDb = getAllUsersBlocking();
+        assertEquals(users.size(), usersFromDb.size());
+        assertTrue(usersFromDb.containsAll(users));
+    }
+
+    @Test
+    public void shouldReuseCompiledStatementForUpdatesAndDeletes() {
+        final DefaultStorIOSQLite defaultStorIOSQLite = (DefaultStorIOSQLite) storIOSQLite;
+
+        final List<User> users = putUsersBlocking(3);
+
+        final long missCountBefore = defaultStorIOSQLite.compiledStatementsCacheMissCount();
+
+        for (User user : users) {
+            final PutResult putResult = storIOSQLite
+                    .put()
+                    .object(User.newInstance(user.id(), "updated_" + user.email()))
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertTrue(putResult.wasUpdated());
+        }
+
+        // One statement for update
+        assertEquals(missCountBefore + 1, defaultStorIOSQLite.compiledStatementsCacheMissCount());
+
+        for (User user : users) {
+            deleteUserBlocking(user);
+        }
+
+        // One more statement for delete
+        assertEquals(missCountBefore + 2, defaultStorIOSQLite.compiledStatementsCacheMissCount());
+
+        assertEquals(0, getAllUsersBlocking().size());
+    }
+
+    @Test
+    public void shouldReuseCompiledStatementForInsertsWithStatementBinder() {
+        final DefaultStorIOSQLite defaultStorIOSQLite = (DefaultStorIOSQLite) storIOSQLite;
+
+        final long missCountBefore = defaultStorIOSQLite.compiledStatementsCacheMissCount();
+
+        final InsertQuery insertQuery = InsertQuery.builder()
+                .table(UserTableMeta.TABLE)
+                .build();
+
+        final String[] columns = {UserTableMeta.COLUMN_EMAIL};
+
+        final StatementBinder<User> binder = new StatementBinder<User>() {
+            @Override
+            public void bind(@NonNull SQLiteStatement statement, @NonNull User user) {
+                statement.bindString(1, user.email());
+            }
+
+            @NonNull
+            @Override
+            public ContentValues mapToContentValues(@NonNull User user) {
+                throw new AssertionError("Should not be called");
+            }
+        };
+
+        for (int i = 0; i < 3; i++) {
+            final long insertedId = storIOSQLite
+                    .internal()
+                    .insert(insertQuery, columns, User.newInstance(null, "user" + i + "@example.com"), binder);
+
+            assertTrue(insertedId > 0);
+        }
+
+        // Only first insert should compile the statement
+        assertEquals(missCountBefore + 1, defaultStorIOSQLite.compiledStatementsCacheMissCount());
+
+        final List<User> usersFromDb = getAllUsersBlocking();
+        assertEquals(3, usersFromDb.size());
+        assertEquals("user0@example.com", usersFromDb.get(0).email());
+    }
+
+    @Test
+    public void shouldReuseCompiledStatementForUpdatesWithStatementBinder() {
+        final DefaultStorIOSQLite defaultStorIOSQLite = (DefaultStorIOSQLite) storIOSQLite;
+
+        final List<User> users = putUsersBlocking(3);
+
+        final long missCountBefore = defaultStorIOSQLite.compiledStatementsCacheMissCount();
+
+        final String[] columns = {UserTableMeta.COLUMN_EMAIL};
+
+        final StatementBinder<User> binder = new StatementBinder<User>() {
+            @Override
+            public void bind(@NonNull SQLiteStatement statement, @NonNull User user) {
+                statement.bindString(1, "updated" + user.email());
+            }
+
+            @NonNull
+            @Override
+            public ContentValues mapToContentValues(@NonNull User user) {
+                throw new AssertionError("Should not be called");
+            }
+        };
+
+        for (User user : users) {
+            final int numberOfRowsUpdated = storIOSQLite
+                    .internal()
+                    .update(UpdateQuery.builder()
+                            .table(UserTableMeta.TABLE)
+                            .where(UserTableMeta.COLUMN_EMAIL + " = ?")
+                            .whereArgs(user.email())
+                            .build(), columns, user, binder);
+
+            assertEquals(1, numberOfRowsUpdated);
+        }
+
+        // Only first update should compile the statement
+        assertEquals(missCountBefore + 1, defaultStorIOSQLite.compiledStatementsCacheMissCount());
+
+        for (User user : getAllUsersBlocking()) {
+            assertTrue(user.email().startsWith("updated"));
+        }
+    }
+
+    @Test
+    public void shouldWorkWithDisabledCache() {
+        storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .addTypeMapping(User.class, SQLiteTypeMapping.<User>builder()
+                        .putResolver(UserTableMeta.PUT_RESOLVER)
+                        .getResolver(UserTableMeta.GET_RESOLVER)
+                        .deleteResolver(UserTableMeta.DELETE_RESOLVER)
+                        .build())
+                .compiledStatementsCacheSize(0)
+                .build();
+
+        final List<User> users = putUsersBlocking(5);
+
+        assertEquals(0, ((DefaultStorIOSQLite) storIOSQLite).compiledStatementsCacheMissCount());
+        assertEquals(users.size(), getAllUsersBlocking().size());
+    }
+}
@@ -3,6 +3,7 @@ package com.pushtorefresh.storio.sqlite.integration;
 import android.database.Cursor;
 
 import com.pushtorefresh.storio.sqlite.BuildConfig;
+import com.pushtorefresh.storio.sqlite.operations.put.PutResults;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -55,6 +56,35 @@ public class InsertTest extends BaseTest {
         cursor.close();
     }
 
+    @Test
+    public void insertCollectionWithBulkInsert() {
+        final List<User> users = TestFactory.newUsers(3);
+
+        final PutResults<User> putResults = storIOSQLite
+                .put()
+                .objects(users)
+                .useBulkInsert(true)
+                .prepare()
+                .executeAsBlocking();
+
+        assertEquals(users.size(), putResults.numberOfInserts());
+
+        // asserting that values was really inserted to db
+        final Cursor cursor = db.query(UserTableMeta.TABLE, null, null, null, null, null, null);
+
+        assertEquals(users.size(), cursor.getCount());
+
+        for (int i = 0; i < users.size(); i++) {
+            assertTrue(cursor.moveToNext());
+
+            final User insertedUser = UserTableMeta.GET_RESOLVER.mapFromCursor(cursor);
+            assertEquals(putResults.results().get(users.get(i)).insertedId(), insertedUser.id());
+            assertTrue(users.get(i).equalsExceptId(insertedUser));
+        }
+
+        cursor.close();
+    }
+
     @Test
     public void insertAndDeleteTwice() {
         final User user = TestFactory.newUser();
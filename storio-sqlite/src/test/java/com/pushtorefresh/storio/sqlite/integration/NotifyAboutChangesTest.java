@@ -134,6 +134,10 @@ public class NotifyAboutChangesTest extends BaseTest {
         // While we in transaction, no changes should be sent
         assertEquals(0, testSubscriber.getOnNextEvents().size());
 
+        storIOSQLite
+                .internal()
+                .setTransactionSuccessful();
+
         storIOSQLite
                 .internal()
                 .endTransaction();
@@ -143,7 +147,34 @@ public class NotifyAboutChangesTest extends BaseTest {
     }
 
     @Test
-    public void shouldReceiveOneNotificationInTransactionWithMultipleThreads() throws InterruptedException {
+    public void shouldNotReceiveNotificationAfterRollback() {
+        final String table = "test_table";
+
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        storIOSQLite
+                .observeChangesInTable(table)
+                .subscribe(testSubscriber);
+
+        storIOSQLite
+                .internal()
+                .beginTransaction();
+
+        storIOSQLite
+                .internal()
+                .notifyAboutChanges(Changes.newInstance(table));
+
+        // transaction is not marked as successful -> rollback
+        storIOSQLite
+                .internal()
+                .endTransaction();
+
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertNoValues();
+    }
+
+    @Test
+    public void shouldNotWithholdChangesOfOtherThreadsDuringTransaction() throws InterruptedException {
         final String table = "test_table";
         final int numberOfThreads = 100;
 
@@ -186,14 +217,15 @@ public class NotifyAboutChangesTest extends BaseTest {
 
         assertTrue(allThreadsFinishedLock.await(20, SECONDS));
 
-        // While we in transaction, no changes should be sent
-        assertEquals(0, testSubscriber.getOnNextEvents().size());
+        // Changes of other threads are not part of the transaction, they should be sent immediately
+        testSubscriber.assertNoErrors();
+        assertEquals(numberOfThreads, testSubscriber.getOnNextEvents().size());
 
         storIOSQLite
                 .internal()
                 .endTransaction();
 
-        testSubscriber.assertNoErrors();
-        testSubscriber.assertReceivedOnNext(singletonList(Changes.newInstance(table)));
+        // Nothing was changed in the transaction itself
+        assertEquals(numberOfThreads, testSubscriber.getOnNextEvents().size());
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import android.support.annotation.NonNull;
 import com.pushtorefresh.storio.sqlite.BuildConfig;
 import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.IterableOfObjects;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
@@ -34,6 +35,32 @@ public class QueryTest extends BaseTest {
         assertTrue(users.equals(usersFromQuery));
     }
 
+    @Test
+    public void queryAllAsIterable() {
+        final List<User> users = putUsersBlocking(3);
+
+        final IterableOfObjects<User> usersFromQuery = storIOSQLite
+                .get()
+                .iterableOfObjects(User.class)
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> actualUsers = new ArrayList<User>();
+
+        try {
+            for (User user : usersFromQuery) {
+                actualUsers.add(user);
+            }
+        } finally {
+            usersFromQuery.close();
+        }
+
+        assertEquals(users, actualUsers);
+    }
+
     @Test
     public void queryOneByField() {
         final List<User> users = putUsersBlocking(3);
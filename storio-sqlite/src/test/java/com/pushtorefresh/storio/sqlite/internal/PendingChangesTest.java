@@ -0,0 +1,118 @@
+package com.pushtorefresh.storio.sqlite.internal;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PendingChangesTest {
+
+    @Test
+    public void shouldBeEmptyByDefault() {
+        final PendingChanges pendingChanges = new PendingChanges();
+        assertTrue(pendingChanges.isEmpty());
+
+        try {
+            pendingChanges.toChanges();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("No pending changes", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldUnionAffectedTables() {
+        final PendingChanges pendingChanges = new PendingChanges();
+
+        for (int i = 0; i < 5; i++) {
+            pendingChanges.add(Changes.newInstance("table" + i));
+            pendingChanges.add(Changes.newInstance("table" + i));
+        }
+
+        assertFalse(pendingChanges.isEmpty());
+        assertEquals(
+                Changes.newInstance(new HashSet<String>(asList("table0", "table1", "table2", "table3", "table4"))),
+                pendingChanges.toChanges()
+        );
+    }
+
+    @Test
+    public void shouldProduceSameResultAsMerge() {
+        final Changes changes1 = Changes.newInstance(AffectedRows.newInstance("table1", "_id", "1"));
+        final Changes changes2 = Changes.newInstance(AffectedRows.newInstance("table1", "_id", "2"));
+        final Changes changes3 = Changes.newInstance(AffectedRows.newInstance("table2", "_id", "1"));
+        final Changes changes4 = Changes.newInstance(AffectedRows.newInstance("table2", "other_id", "1"));
+        final Changes changes5 = Changes.newInstance("table3");
+        final Changes changes6 = Changes.newInstance(AffectedRows.newInstance("table3", "_id", "1"));
+
+        final PendingChanges pendingChanges = new PendingChanges();
+        pendingChanges.add(changes1);
+        pendingChanges.add(changes2);
+        pendingChanges.add(changes3);
+        pendingChanges.add(changes4);
+        pendingChanges.add(changes5);
+        pendingChanges.add(changes6);
+
+        final Changes expected = Changes.merge(asList(changes1, changes2, changes3, changes4, changes5, changes6));
+
+        assertEquals(expected, pendingChanges.toChanges());
+        assertEquals(AffectedRows.newInstance("table1", "_id", new HashSet<String>(asList("1", "2"))), expected.affectedRows("table1"));
+    }
+
+    @Test
+    public void shouldAddAffectedTablesAndRowsWithoutChanges() {
+        final PendingChanges pendingChanges = new PendingChanges();
+
+        pendingChanges.add(new HashSet<String>(asList("table1", "table2")), AffectedRows.newInstance("table1", "_id", "1"));
+        pendingChanges.add(singleton("table1"), AffectedRows.newInstance("table1", "_id", "2"));
+        pendingChanges.add(singleton("table3"), null);
+
+        assertEquals(
+                Changes.merge(asList(
+                        Changes.newInstance(new HashSet<String>(asList("table1", "table2")), AffectedRows.newInstance("table1", "_id", "1")),
+                        Changes.newInstance(AffectedRows.newInstance("table1", "_id", "2")),
+                        Changes.newInstance("table3")
+                )),
+                pendingChanges.toChanges()
+        );
+    }
+
+    @Test
+    public void addAllShouldMergePendingChanges() {
+        final PendingChanges outer = new PendingChanges();
+        outer.add(Changes.newInstance(AffectedRows.newInstance("table1", "_id", "1")));
+
+        final PendingChanges nested = new PendingChanges();
+        nested.add(Changes.newInstance(AffectedRows.newInstance("table1", "_id", "2")));
+        nested.add(Changes.newInstance("table2"));
+
+        outer.addAll(nested);
+
+        assertEquals(
+                Changes.merge(asList(
+                        Changes.newInstance(AffectedRows.newInstance("table1", "_id", new HashSet<String>(asList("1", "2")))),
+                        Changes.newInstance("table2")
+                )),
+                outer.toChanges()
+        );
+    }
+
+    @Test
+    public void clearShouldRemoveAllChanges() {
+        final PendingChanges pendingChanges = new PendingChanges();
+        pendingChanges.add(Changes.newInstance("table"));
+
+        pendingChanges.clear();
+
+        assertTrue(pendingChanges.isEmpty());
+    }
+}
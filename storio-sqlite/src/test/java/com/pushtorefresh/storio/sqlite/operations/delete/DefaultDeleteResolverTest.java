@@ -1,17 +1,29 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.Query;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static java.util.Arrays.asList;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,7 +65,287 @@ public class DefaultDeleteResolverTest {
         assertEquals(Collections.singleton(testTable), deleteResult.affectedTables());
     }
 
+    @Test
+    public void performBatchDeleteWithoutKeyColumnShouldDeleteObjectsOneByOne() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final DeleteQuery deleteQuery = DeleteQuery.builder()
+                .table("test_table")
+                .build();
+
+        when(internal.delete(deleteQuery))
+                .thenReturn(1);
+
+        final DefaultDeleteResolver<TestItem> defaultDeleteResolver = new DefaultDeleteResolver<TestItem>() {
+            @NonNull
+            @Override
+            public DeleteQuery mapToDeleteQuery(@NonNull TestItem testItem) {
+                return deleteQuery;
+            }
+        };
+
+        final List<TestItem> items = asList(new TestItem(), new TestItem());
+
+        final Map<TestItem, DeleteResult> results = defaultDeleteResolver.performBatchDelete(storIOSQLite, items);
+
+        verify(internal, times(2)).delete(deleteQuery);
+        verify(internal, times(0)).query(any(Query.class));
+        verify(internal, times(0)).beginTransaction();
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(items.get(0)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(1)).numberOfRowsDeleted());
+    }
+
+    @Test
+    public void performBatchDeleteShouldDeleteObjectsWithOneStatement() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final DeleteQuery expectedDeleteQuery = DeleteQuery.builder()
+                .table("test_table")
+                .where("_id IN (?,?,?)")
+                .whereArgs("1", "2", "3")
+                .build();
+
+        // each key matched one row
+        when(internal.delete(expectedDeleteQuery))
+                .thenReturn(3);
+
+        final List<KeyedTestItem> items = asList(
+                new KeyedTestItem(1L),
+                new KeyedTestItem(2L),
+                new KeyedTestItem(3L),
+                new KeyedTestItem(2L),
+                new KeyedTestItem(null)
+        );
+
+        final DeleteQuery deleteQueryForItemWithoutKey = items.get(4).deleteQuery();
+
+        when(internal.delete(deleteQueryForItemWithoutKey))
+                .thenReturn(0);
+
+        final Map<KeyedTestItem, DeleteResult> results = new KeyedTestItemDeleteResolver()
+                .performBatchDelete(storIOSQLite, items);
+
+        verify(internal).delete(expectedDeleteQuery);
+
+        // object without key should be deleted by its own query
+        verify(internal).delete(deleteQueryForItemWithoutKey);
+        verify(internal, times(2)).delete(any(DeleteQuery.class));
+
+        // rows are not counted per key
+        verify(internal, never()).query(any(Query.class));
+        verify(internal, never()).beginTransaction();
+
+        assertEquals(5, results.size());
+        assertEquals(1, results.get(items.get(0)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(1)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(2)).numberOfRowsDeleted());
+
+        // duplicated key, same as for sequential delete
+        assertEquals(0, results.get(items.get(3)).numberOfRowsDeleted());
+        assertEquals(0, results.get(items.get(4)).numberOfRowsDeleted());
+        assertEquals(Collections.singleton("test_table"), results.get(items.get(1)).affectedTables());
+        assertEquals(AffectedRows.newInstance("test_table", "_id", "2"), results.get(items.get(1)).affectedRows());
+        assertEquals(AffectedRows.newInstance("test_table", "_id", "2"), results.get(items.get(3)).affectedRows());
+        assertNull(results.get(items.get(4)).affectedRows());
+    }
+
+    @Test
+    public void performBatchDeleteShouldAttributeDeletedRowsToObjectsInOrder() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final List<KeyedTestItem> items = asList(
+                new KeyedTestItem(1L),
+                new KeyedTestItem(2L),
+                new KeyedTestItem(3L)
+        );
+
+        final KeyedTestItemDeleteResolver deleteResolver = new KeyedTestItemDeleteResolver();
+
+        // fewer rows than objects: which objects were in the db is unknown
+        when(internal.delete(any(DeleteQuery.class)))
+                .thenReturn(2);
+
+        Map<KeyedTestItem, DeleteResult> results = deleteResolver.performBatchDelete(storIOSQLite, items);
+
+        assertEquals(1, results.get(items.get(0)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(1)).numberOfRowsDeleted());
+        assertEquals(0, results.get(items.get(2)).numberOfRowsDeleted());
+
+        // more rows than objects: key column is not unique
+        when(internal.delete(any(DeleteQuery.class)))
+                .thenReturn(5);
+
+        results = deleteResolver.performBatchDelete(storIOSQLite, items);
+
+        assertEquals(3, results.get(items.get(0)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(1)).numberOfRowsDeleted());
+        assertEquals(1, results.get(items.get(2)).numberOfRowsDeleted());
+    }
+
+    @Test
+    public void performDeleteShouldReportKeyOfDeletedRow() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final KeyedTestItem item = new KeyedTestItem(5L);
+
+        when(internal.delete(item.deleteQuery()))
+                .thenReturn(1);
+
+        final DeleteResult deleteResult = new KeyedTestItemDeleteResolver().performDelete(storIOSQLite, item);
+
+        assertEquals(DeleteResult.newInstance(1, AffectedRows.newInstance("test_table", "_id", "5")), deleteResult);
+    }
+
+    @Test
+    public void performBatchDeleteShouldSplitKeysIntoChunks() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final int numberOfItems = DefaultDeleteResolver.MAX_KEYS_PER_STATEMENT * 2 + 1;
+        final List<KeyedTestItem> items = new ArrayList<KeyedTestItem>(numberOfItems);
+
+        for (long i = 0; i < numberOfItems; i++) {
+            items.add(new KeyedTestItem(i));
+        }
+
+        final Map<KeyedTestItem, DeleteResult> results = new KeyedTestItemDeleteResolver()
+                .performBatchDelete(storIOSQLite, items);
+
+        verify(internal, times(3)).delete(any(DeleteQuery.class));
+
+        assertEquals(numberOfItems, results.size());
+    }
+
+    @Test
+    public void performDeleteByKeysShouldDeleteRowsByChunksInOneTransaction() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        when(internal.delete(any(DeleteQuery.class)))
+                .thenReturn(DefaultDeleteResolver.MAX_KEYS_PER_STATEMENT, 1);
+
+        final int numberOfKeys = DefaultDeleteResolver.MAX_KEYS_PER_STATEMENT + 1;
+        final List<Long> keys = new ArrayList<Long>(numberOfKeys + 1);
+
+        for (long i = 0; i < numberOfKeys; i++) {
+            keys.add(i);
+        }
+
+        keys.add(0L); // duplicated key should not produce another chunk
+
+        final DeleteResult deleteResult = new KeyedTestItemDeleteResolver()
+                .performDeleteByKeys(storIOSQLite, "test_table", "_id", keys);
+
+        final InOrder inOrder = inOrder(internal);
+        inOrder.verify(internal).beginTransaction();
+        inOrder.verify(internal, times(2)).delete(any(DeleteQuery.class));
+        inOrder.verify(internal).setTransactionSuccessful();
+        inOrder.verify(internal).endTransaction();
+
+        // rows are not counted per key
+        verify(internal, never()).query(any(Query.class));
+
+        final HashSet<String> expectedKeys = new HashSet<String>();
+
+        for (long i = 0; i < numberOfKeys; i++) {
+            expectedKeys.add(String.valueOf(i));
+        }
+
+        assertEquals(
+                DeleteResult.newInstance(numberOfKeys, AffectedRows.newInstance("test_table", "_id", expectedKeys)),
+                deleteResult
+        );
+    }
+
+    @Test
+    public void performDeleteByKeysShouldNotStartOwnTransactionInsideOfEnclosingTransaction() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        when(internal.inTransaction())
+                .thenReturn(true);
+
+        new KeyedTestItemDeleteResolver()
+                .performDeleteByKeys(storIOSQLite, "test_table", "_id", asList(1L, 2L));
+
+        verify(internal).delete(DeleteQuery.builder()
+                .table("test_table")
+                .where("_id IN (?,?)")
+                .whereArgs("1", "2")
+                .build());
+        verify(internal, never()).beginTransaction();
+        verify(internal, never()).setTransactionSuccessful();
+        verify(internal, never()).endTransaction();
+    }
+
     private static class TestItem {
 
     }
+
+    private static class KeyedTestItem {
+
+        @Nullable
+        final Long id;
+
+        KeyedTestItem(@Nullable Long id) {
+            this.id = id;
+        }
+
+        @NonNull
+        DeleteQuery deleteQuery() {
+            return DeleteQuery.builder()
+                    .table("test_table")
+                    .where("_id = ?")
+                    .whereArgs(id)
+                    .build();
+        }
+    }
+
+    private static class KeyedTestItemDeleteResolver extends DefaultDeleteResolver<KeyedTestItem> {
+
+        @NonNull
+        @Override
+        protected DeleteQuery mapToDeleteQuery(@NonNull KeyedTestItem object) {
+            return object.deleteQuery();
+        }
+
+        @NonNull
+        @Override
+        protected String keyColumn() {
+            return "_id";
+        }
+
+        @Nullable
+        @Override
+        protected Object mapToKey(@NonNull KeyedTestItem object) {
+            return object.id;
+        }
+    }
 }
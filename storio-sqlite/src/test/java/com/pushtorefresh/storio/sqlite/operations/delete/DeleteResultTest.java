@@ -1,5 +1,6 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.test.ToStringChecker;
 
 import org.junit.Test;
@@ -61,6 +62,7 @@ public class DeleteResultTest {
     public void checkToStringImplementation() {
         ToStringChecker
                 .forClass(DeleteResult.class)
+                .sampleValue(AffectedRows.class, AffectedRows.newInstance("table", "_id", "1"))
                 .check();
     }
 }
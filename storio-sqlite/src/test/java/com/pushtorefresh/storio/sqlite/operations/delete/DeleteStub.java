@@ -132,6 +132,7 @@ class DeleteStub {
                 .testAction(new Action1<DeleteResults<TestItem>>() {
                     @Override
                     public void call(DeleteResults<TestItem> deleteResults) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForMultipleObjects(deleteResults);
                     }
                 })
@@ -149,6 +150,7 @@ class DeleteStub {
                 .testAction(new Action1<DeleteResult>() {
                     @Override
                     public void call(DeleteResult deleteResult) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForOneObject(deleteResult);
                     }
                 })
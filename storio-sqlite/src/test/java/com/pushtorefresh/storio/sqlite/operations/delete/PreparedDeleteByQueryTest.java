@@ -89,6 +89,7 @@ public class PreparedDeleteByQueryTest {
         testSubscriber.assertNoErrors();
         testSubscriber.assertValue(expectedDeleteResult);
 
+        verify(storIOSQLite).writeScheduler();
         verify(storIOSQLite).internal();
         verify(deleteResolver).performDelete(same(storIOSQLite), same(deleteQuery));
         verify(internal).notifyAboutChanges(eq(Changes.newInstance(deleteQuery.table())));
@@ -156,6 +157,7 @@ public class PreparedDeleteByQueryTest {
         assertEquals("test exception", cause.getMessage());
 
         verify(deleteResolver).performDelete(same(storIOSQLite), any(DeleteQuery.class));
+        verify(storIOSQLite).writeScheduler();
         verifyNoMoreInteractions(storIOSQLite, internal, deleteResolver);
     }
 }
@@ -1,25 +1,34 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.TestUtils;
+import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.put.PutResolver;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import rx.Observable;
 import rx.observers.TestSubscriber;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -219,6 +228,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).delete();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -283,6 +293,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).delete();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -291,6 +302,83 @@ public class PreparedDeleteCollectionOfObjectsTest {
         }
     }
 
+    public static class BatchDelete {
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldPassObjectsOfSameTypeToOneBatchDeleteWithTransaction() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final DeleteResolver<TestItem> deleteResolver = mock(DeleteResolver.class);
+
+            when(internal.typeMapping(TestItem.class)).thenReturn(SQLiteTypeMapping.<TestItem>builder()
+                    .putResolver(mock(PutResolver.class))
+                    .getResolver(mock(GetResolver.class))
+                    .deleteResolver(deleteResolver)
+                    .build());
+
+            final List<TestItem> items = asList(TestItem.newInstance(), TestItem.newInstance());
+
+            final Map<TestItem, DeleteResult> results = new HashMap<TestItem, DeleteResult>();
+            results.put(items.get(0), DeleteResult.newInstance(1, TestItem.TABLE));
+            results.put(items.get(1), DeleteResult.newInstance(0, TestItem.TABLE));
+
+            when(deleteResolver.performBatchDelete(same(storIOSQLite), any(Collection.class)))
+                    .thenReturn(results);
+
+            final DeleteResults<TestItem> deleteResults = new PreparedDeleteCollectionOfObjects.Builder<TestItem>(storIOSQLite, items)
+                    .useBatchDelete(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertEquals(results, deleteResults.results());
+
+            verify(deleteResolver).performBatchDelete(same(storIOSQLite), eq(items));
+            verify(deleteResolver, never()).performDelete(same(storIOSQLite), any(TestItem.class));
+
+            verify(internal).beginTransaction();
+            verify(internal).setTransactionSuccessful();
+            verify(internal).endTransaction();
+
+            // Only one notification after the transaction
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldNotifyAfterBatchDeleteWithoutTransaction() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final DeleteResolver<TestItem> deleteResolver = mock(DeleteResolver.class);
+
+            final List<TestItem> items = asList(TestItem.newInstance(), TestItem.newInstance());
+
+            when(deleteResolver.performBatchDelete(same(storIOSQLite), any(Collection.class)))
+                    .thenReturn(singletonMap(items.get(0), DeleteResult.newInstance(1, TestItem.TABLE)));
+
+            new PreparedDeleteCollectionOfObjects.Builder<TestItem>(storIOSQLite, items)
+                    .withDeleteResolver(deleteResolver)
+                    .useTransaction(false)
+                    .useBatchDelete(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            verify(deleteResolver).performBatchDelete(same(storIOSQLite), eq(items));
+
+            verify(internal, never()).beginTransaction();
+            verify(internal, never()).setTransactionSuccessful();
+            verify(internal, never()).endTransaction();
+
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+        }
+    }
+
     public static class OtherTests {
 
         @Test
@@ -364,6 +452,7 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verify(internal, never()).setTransactionSuccessful();
             verify(internal).endTransaction();
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).internal();
             verify(deleteResolver).performDelete(same(storIOSQLite), anyObject());
             verifyNoMoreInteractions(storIOSQLite, internal, deleteResolver);
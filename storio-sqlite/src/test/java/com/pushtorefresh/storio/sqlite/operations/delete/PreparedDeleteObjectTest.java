@@ -136,6 +136,7 @@ public class PreparedDeleteObjectTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).delete();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
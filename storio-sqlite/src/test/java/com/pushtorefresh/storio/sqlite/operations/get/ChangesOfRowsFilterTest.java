@@ -0,0 +1,120 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChangesOfRowsFilterTest {
+
+    @Test
+    public void shouldNotBeCreatedForQueryNotByKey() {
+        assertNull(ChangesOfRowsFilter.forQuery(Query.builder().table("users").build()));
+
+        assertNull(ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id > ?")
+                .whereArgs(1)
+                .build()));
+
+        assertNull(ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id = ? OR name = ?")
+                .whereArgs(1, "name")
+                .build()));
+    }
+
+    @Test
+    public void shouldSkipChangesOfOtherRows() {
+        final ChangesOfRowsFilter filter = ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id = ?")
+                .whereArgs(1)
+                .build());
+
+        assertNotNull(filter);
+
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "1"))));
+        assertFalse(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "2"))));
+    }
+
+    @Test
+    public void shouldSkipChangesOfRowsNotInTheList() {
+        final ChangesOfRowsFilter filter = ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("users._id IN (?, ?)")
+                .whereArgs(1, 2)
+                .build());
+
+        assertNotNull(filter);
+
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance(
+                "users",
+                "_id",
+                new HashSet<String>(asList("2", "3"))
+        ))));
+
+        assertFalse(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "3"))));
+    }
+
+    @Test
+    public void shouldNotSkipChangesWithUnknownRows() {
+        final ChangesOfRowsFilter filter = ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id = ?")
+                .whereArgs(1)
+                .build());
+
+        assertNotNull(filter);
+
+        assertTrue(filter.call(Changes.newInstance("users")));
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "email", "2"))));
+    }
+
+    @Test
+    public void shouldNotBeCreatedForKeysNotComparableAsStrings() {
+        assertNull(ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id = ?")
+                .whereArgs("05")
+                .build()));
+
+        assertNull(ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id IN (?, ?)")
+                .whereArgs(1, 1.5f)
+                .build()));
+
+        assertNotNull(ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("email = ?")
+                .whereArgs("user@example.com")
+                .build()));
+    }
+
+    @Test
+    public void shouldNotSkipChangesWithKeysNotComparableAsStrings() {
+        final ChangesOfRowsFilter filter = ChangesOfRowsFilter.forQuery(Query.builder()
+                .table("users")
+                .where("_id = ?")
+                .whereArgs(5)
+                .build());
+
+        assertNotNull(filter);
+
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "05"))));
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "5.0"))));
+        assertTrue(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", " 5"))));
+        assertFalse(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "-6"))));
+        assertFalse(filter.call(Changes.newInstance(AffectedRows.newInstance("users", "_id", "name"))));
+    }
+}
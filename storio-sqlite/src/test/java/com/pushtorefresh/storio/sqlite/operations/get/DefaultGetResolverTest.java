@@ -9,7 +9,14 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pushtorefresh.storio.Queries.placeholders;
+import static java.util.Arrays.asList;
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertSame;
+import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -90,6 +97,108 @@ public class DefaultGetResolverTest {
         assertSame(expectedCursor, actualCursor);
     }
 
+    @Test
+    public void columnIndicesShouldBeResolvedOncePerCursor() {
+        final String[] columnNames = {"column1", "column2"};
+
+        final Cursor cursor1 = mock(Cursor.class);
+        when(cursor1.getColumnIndex("column1")).thenReturn(0);
+        when(cursor1.getColumnIndex("column2")).thenReturn(1);
+
+        final Cursor cursor2 = mock(Cursor.class);
+        when(cursor2.getColumnIndex("column1")).thenReturn(1);
+        when(cursor2.getColumnIndex("column2")).thenReturn(-1);
+
+        final DefaultGetResolver<TestItem> defaultGetResolver = new DefaultGetResolver<TestItem>() {
+            @NonNull
+            @Override
+            public TestItem mapFromCursor(@NonNull Cursor cursor) {
+                return mock(TestItem.class);
+            }
+        };
+
+        // several rows of first cursor
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(new int[]{0, 1}, defaultGetResolver.columnIndices(cursor1, columnNames));
+        }
+
+        verify(cursor1, times(1)).getColumnIndex("column1");
+        verify(cursor1, times(1)).getColumnIndex("column2");
+
+        // another cursor -> indices should be resolved again
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(new int[]{1, -1}, defaultGetResolver.columnIndices(cursor2, columnNames));
+        }
+
+        verify(cursor2, times(1)).getColumnIndex("column1");
+        verify(cursor2, times(1)).getColumnIndex("column2");
+    }
+
+    @Test
+    public void performGetByKeysShouldQueryKeysByChunks() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final int numberOfKeys = DefaultGetResolver.MAX_KEYS_PER_QUERY + 1;
+        final List<Long> keys = new ArrayList<Long>(numberOfKeys);
+
+        for (long i = 0; i < numberOfKeys; i++) {
+            keys.add(i);
+        }
+
+        final List<String> firstChunk = new ArrayList<String>(DefaultGetResolver.MAX_KEYS_PER_QUERY);
+
+        for (long i = 0; i < DefaultGetResolver.MAX_KEYS_PER_QUERY; i++) {
+            firstChunk.add(String.valueOf(i));
+        }
+
+        final Cursor cursor1 = mock(Cursor.class);
+        when(cursor1.moveToNext()).thenReturn(true, true, false);
+
+        final Cursor cursor2 = mock(Cursor.class);
+        when(cursor2.moveToNext()).thenReturn(true, false);
+
+        when(internal.query(any(Query.class)))
+                .thenReturn(cursor1, cursor2);
+
+        final TestItem testItem1 = new TestItem();
+        final TestItem testItem2 = new TestItem();
+        final TestItem testItem3 = new TestItem();
+
+        final DefaultGetResolver<TestItem> defaultGetResolver = new DefaultGetResolver<TestItem>() {
+
+            private int row;
+
+            @NonNull
+            @Override
+            public TestItem mapFromCursor(@NonNull Cursor cursor) {
+                return asList(testItem1, testItem2, testItem3).get(row++);
+            }
+        };
+
+        final List<TestItem> objects = defaultGetResolver.performGetByKeys(storIOSQLite, "test_table", "_id", keys);
+
+        assertEquals(asList(testItem1, testItem2, testItem3), objects);
+
+        verify(internal).query(Query.builder()
+                .table("test_table")
+                .where("_id IN (" + placeholders(firstChunk.size()) + ")")
+                .whereArgs(firstChunk)
+                .build());
+
+        verify(internal).query(Query.builder()
+                .table("test_table")
+                .where("_id IN (?)")
+                .whereArgs(String.valueOf(DefaultGetResolver.MAX_KEYS_PER_QUERY))
+                .build());
+
+        verify(cursor1).close();
+        verify(cursor2).close();
+    }
+
     private static class TestItem {
 
     }
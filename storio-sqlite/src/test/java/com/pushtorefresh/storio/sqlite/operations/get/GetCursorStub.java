@@ -102,6 +102,8 @@ class GetCursorStub {
                 .testAction(new Action1<Cursor>() {
                     @Override
                     public void call(Cursor cursor) {
+                        verify(storIOSQLite).readScheduler();
+
                         // Get Operation should be subscribed to changes of tables from Query
                         verify(storIOSQLite).observeChangesInTables(eq(singleton(query.table())));
                         verifyQueryBehaviorForCursor(cursor);
@@ -125,6 +127,8 @@ class GetCursorStub {
                 .testAction(new Action1<Cursor>() {
                     @Override
                     public void call(Cursor cursor) {
+                        verify(storIOSQLite).readScheduler();
+
                         // Get Operation should be subscribed to changes of tables from Query
                         verify(storIOSQLite).observeChangesInTables(rawQuery.observesTables());
                         verifyRawQueryBehaviorForCursor(cursor);
@@ -192,6 +192,8 @@ class GetObjectsStub {
                 .testAction(new Action1<List<TestItem>>() {
                     @Override
                     public void call(List<TestItem> testItems) {
+                        verify(storIOSQLite).readScheduler();
+
                         // Get Operation should be subscribed to changes of tables from query
                         verify(storIOSQLite).observeChangesInTables(eq(singleton(query.table())));
 
@@ -218,6 +220,8 @@ class GetObjectsStub {
                 .testAction(new Action1<List<TestItem>>() {
                     @Override
                     public void call(List<TestItem> testItems) {
+                        verify(storIOSQLite).readScheduler();
+
                         // Get Operation should be subscribed to changes of tables from query
                         verify(storIOSQLite).observeChangesInTables(rawQuery.observesTables());
 
@@ -0,0 +1,261 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.AffectedRows;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalListOfObjectsTest {
+
+    @NonNull
+    private StorIOSQLite storIOSQLite;
+
+    /**
+     * Rows of the "items" table: key -> value.
+     */
+    @NonNull
+    private Map<String, String> rows;
+
+    /**
+     * Number of queries performed by resolver.
+     */
+    @NonNull
+    private AtomicInteger numberOfQueries;
+
+    @NonNull
+    private GetResolver<String> getResolver;
+
+    @Before
+    public void beforeEachTest() {
+        storIOSQLite = mock(StorIOSQLite.class);
+        rows = new LinkedHashMap<String, String>();
+        numberOfQueries = new AtomicInteger();
+
+        rows.put("1", "a");
+        rows.put("2", "b");
+        rows.put("3", "c");
+
+        getResolver = new GetResolver<String>() {
+            @NonNull
+            @Override
+            public String mapFromCursor(@NonNull Cursor cursor) {
+                return cursor.getString(0) + cursor.getString(1);
+            }
+
+            @NonNull
+            @Override
+            public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery) {
+                throw new UnsupportedOperationException();
+            }
+
+            @NonNull
+            @Override
+            public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
+                numberOfQueries.incrementAndGet();
+
+                // whereArgs are keys only for patch queries
+                final List<String[]> selectedRows = new ArrayList<String[]>();
+
+                for (final Map.Entry<String, String> row : rows.entrySet()) {
+                    if (query.whereArgs().isEmpty() || query.whereArgs().contains(row.getKey())) {
+                        selectedRows.add(new String[]{row.getKey(), row.getValue()});
+                    }
+                }
+
+                return cursorOf(selectedRows);
+            }
+        };
+    }
+
+    @NonNull
+    static Cursor cursorOf(@NonNull final List<String[]> rows) {
+        final Cursor cursor = mock(Cursor.class);
+        final AtomicInteger position = new AtomicInteger(-1);
+
+        when(cursor.getCount()).thenReturn(rows.size());
+        when(cursor.getColumnIndex("_id")).thenReturn(0);
+        when(cursor.getColumnIndex("missing_column")).thenReturn(-1);
+        when(cursor.getColumnIndexOrThrow("_id")).thenReturn(0);
+
+        when(cursor.moveToNext()).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                return position.incrementAndGet() < rows.size();
+            }
+        });
+
+        when(cursor.getString(anyInt())).thenAnswer(new Answer<String>() {
+            @Override
+            public String answer(InvocationOnMock invocation) {
+                return rows.get(position.get())[(Integer) invocation.getArguments()[0]];
+            }
+        });
+
+        return cursor;
+    }
+
+    @NonNull
+    private IncrementalListOfObjects<String> newIncrementalList(@NonNull Query query) {
+        final PreparedGetListOfObjects<String> preparedGet = new PreparedGetListOfObjects<String>(
+                storIOSQLite,
+                String.class,
+                query,
+                getResolver,
+                false
+        );
+
+        return new IncrementalListOfObjects<String>(preparedGet, getResolver);
+    }
+
+    @NonNull
+    private static Changes changesOfRows(@NonNull String... keys) {
+        return Changes.newInstance(AffectedRows.newInstance("items", "_id", new HashSet<String>(asList(keys))));
+    }
+
+    @Test
+    public void shouldReloadIfRowsAreUnknown() {
+        final IncrementalListOfObjects<String> incrementalList = newIncrementalList(Query.builder().table("items").build());
+
+        assertEquals(ListUpdate.newReloadedInstance(asList("1a", "2b", "3c")), incrementalList.reload(null));
+
+        rows.put("4", "d");
+
+        assertEquals(
+                ListUpdate.newReloadedInstance(asList("1a", "2b", "3c", "4d")),
+                incrementalList.call(Changes.newInstance("items"))
+        );
+    }
+
+    @Test
+    public void shouldPatchResultIfRowsAreKnown() {
+        final IncrementalListOfObjects<String> incrementalList = newIncrementalList(Query.builder().table("items").build());
+
+        incrementalList.reload(null);
+
+        // first change with rows: keys of current result are unknown yet
+        rows.put("2", "bb");
+        assertEquals(ListUpdate.newReloadedInstance(asList("1a", "2bb", "3c")), incrementalList.call(changesOfRows("2")));
+        assertEquals(2, numberOfQueries.get());
+
+        rows.remove("1");
+        rows.put("3", "cc");
+        rows.put("4", "d");
+
+        assertEquals(
+                ListUpdate.newPatchedInstance(
+                        asList("2bb", "3cc", "4d"),
+                        asList(0),
+                        asList(1),
+                        asList(2)
+                ),
+                incrementalList.call(changesOfRows("1", "3", "4"))
+        );
+
+        // only affected rows were read
+        assertEquals(3, numberOfQueries.get());
+    }
+
+    @Test
+    public void shouldReportRemovedPositionsInDescendingOrder() {
+        final IncrementalListOfObjects<String> incrementalList = newIncrementalList(Query.builder().table("items").build());
+
+        incrementalList.reload("_id");
+
+        rows.remove("1");
+        rows.remove("3");
+
+        final ListUpdate<String> listUpdate = incrementalList.call(changesOfRows("1", "3"));
+
+        assertEquals(asList("2b"), listUpdate.objects());
+        assertEquals(asList(2, 0), listUpdate.removedPositions());
+        assertEquals(Collections.<Integer>emptyList(), listUpdate.updatedPositions());
+        assertEquals(Collections.<Integer>emptyList(), listUpdate.insertedPositions());
+    }
+
+    @Test
+    public void shouldReloadQueryWithOrderBy() {
+        final IncrementalListOfObjects<String> incrementalList = newIncrementalList(Query.builder()
+                .table("items")
+                .orderBy("_id DESC")
+                .build());
+
+        incrementalList.reload("_id");
+
+        rows.put("2", "bb");
+
+        assertEquals(
+                ListUpdate.newReloadedInstance(asList("1a", "2bb", "3c")),
+                incrementalList.call(changesOfRows("2"))
+        );
+    }
+
+    @Test
+    public void shouldReloadIfKeyColumnIsNotSelected() {
+        final IncrementalListOfObjects<String> incrementalList = newIncrementalList(Query.builder().table("items").build());
+
+        incrementalList.reload("missing_column");
+
+        rows.put("2", "bb");
+
+        final Changes changes = Changes.newInstance(AffectedRows.newInstance("items", "missing_column", "2"));
+
+        assertEquals(ListUpdate.newReloadedInstance(asList("1a", "2bb", "3c")), incrementalList.call(changes));
+        assertEquals(ListUpdate.newReloadedInstance(asList("1a", "2bb", "3c")), incrementalList.call(changes));
+    }
+
+    @Test
+    public void observableShouldEmitReloadedResultAndThenPatchedResults() {
+        final PublishSubject<Changes> changes = PublishSubject.create();
+
+        when(storIOSQLite.observeChangesInTables(anySetOf(String.class)))
+                .thenReturn(changes);
+
+        final TestSubscriber<ListUpdate<String>> testSubscriber = new TestSubscriber<ListUpdate<String>>();
+
+        new PreparedGetListOfObjects<String>(
+                storIOSQLite,
+                String.class,
+                Query.builder().table("items").build(),
+                getResolver,
+                false
+        )
+                .createObservableOfUpdates()
+                .subscribe(testSubscriber);
+
+        // endless Observable, waiting for the first emission from Schedulers.io()
+        testSubscriber.awaitTerminalEvent(1, TimeUnit.SECONDS);
+
+        assertEquals(1, testSubscriber.getOnNextEvents().size());
+        assertEquals(ListUpdate.newReloadedInstance(asList("1a", "2b", "3c")), testSubscriber.getOnNextEvents().get(0));
+
+        testSubscriber.unsubscribe();
+    }
+}
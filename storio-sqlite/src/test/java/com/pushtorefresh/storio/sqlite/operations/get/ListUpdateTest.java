@@ -0,0 +1,58 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import com.pushtorefresh.storio.test.ToStringChecker;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ListUpdateTest {
+
+    @Test
+    public void reloadedInstance() {
+        final ListUpdate<String> listUpdate = ListUpdate.newReloadedInstance(asList("a", "b"));
+
+        assertTrue(listUpdate.reloaded());
+        assertEquals(asList("a", "b"), listUpdate.objects());
+        assertEquals(Collections.<Integer>emptyList(), listUpdate.removedPositions());
+        assertEquals(Collections.<Integer>emptyList(), listUpdate.updatedPositions());
+        assertEquals(Collections.<Integer>emptyList(), listUpdate.insertedPositions());
+    }
+
+    @Test
+    public void patchedInstance() {
+        final ListUpdate<String> listUpdate = ListUpdate.newPatchedInstance(
+                asList("a", "b"),
+                asList(3, 1),
+                asList(0),
+                asList(1)
+        );
+
+        assertFalse(listUpdate.reloaded());
+        assertEquals(asList(3, 1), listUpdate.removedPositions());
+        assertEquals(asList(0), listUpdate.updatedPositions());
+        assertEquals(asList(1), listUpdate.insertedPositions());
+    }
+
+    @Test
+    public void verifyEqualsAndHashCodeImplementation() {
+        EqualsVerifier
+                .forClass(ListUpdate.class)
+                .allFieldsShouldBeUsed()
+                .verify();
+    }
+
+    @Test
+    public void checkToStringImplementation() {
+        ToStringChecker
+                .forClass(ListUpdate.class)
+                .check();
+    }
+}
@@ -15,11 +15,14 @@ import rx.observers.TestSubscriber;
 import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PreparedGetCursorTest {
@@ -55,6 +58,25 @@ public class PreparedGetCursorTest {
         getStub.verifyQueryBehaviorForCursor(cursorObservable);
     }
 
+    @Test
+    public void shouldNotUseReadSchedulerIfSchedulerIsPassedToObservable() {
+        final GetCursorStub getStub = GetCursorStub.newInstance();
+
+        final Cursor cursor = getStub.storIOSQLite
+                .get()
+                .cursor()
+                .withQuery(getStub.query)
+                .withGetResolver(getStub.getResolverForCursor)
+                .prepare()
+                .createObservable(null) // executes on the thread of subscriber
+                .take(1)
+                .toBlocking()
+                .first();
+
+        assertNotNull(cursor);
+        verify(getStub.storIOSQLite, never()).readScheduler();
+    }
+
     @Test
     public void shouldGetCursorWithRawQueryBlocking() {
         final GetCursorStub getStub = GetCursorStub.newInstance();
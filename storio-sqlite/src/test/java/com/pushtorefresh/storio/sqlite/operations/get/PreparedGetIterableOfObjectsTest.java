@@ -0,0 +1,341 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.TestUtils;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedGetIterableOfObjectsTest {
+
+    private StorIOSQLite storIOSQLite;
+
+    private StorIOSQLite.Internal internal;
+
+    private GetResolver<TestItem> getResolver;
+
+    private Cursor cursor;
+
+    private Query query;
+
+    private List<TestItem> items;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void beforeEachTest() {
+        storIOSQLite = mock(StorIOSQLite.class);
+        internal = mock(StorIOSQLite.Internal.class);
+        getResolver = mock(GetResolver.class);
+        cursor = mock(Cursor.class);
+
+        query = Query.builder()
+                .table("test_table")
+                .build();
+
+        items = asList(new TestItem(), new TestItem(), new TestItem());
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        when(storIOSQLite.get())
+                .thenReturn(new PreparedGet.Builder(storIOSQLite));
+
+        when(getResolver.performGet(storIOSQLite, query))
+                .thenReturn(cursor);
+
+        when(cursor.moveToNext()).thenAnswer(new Answer<Boolean>() {
+            int invocationsCount = 0;
+
+            @Override
+            public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                return invocationsCount++ < items.size();
+            }
+        });
+
+        when(getResolver.mapFromCursor(cursor)).thenAnswer(new Answer<TestItem>() {
+            int invocationsCount = 0;
+
+            @Override
+            public TestItem answer(InvocationOnMock invocation) throws Throwable {
+                return items.get(invocationsCount++);
+            }
+        });
+    }
+
+    @NonNull
+    private IterableOfObjects<TestItem> executeWithExplicitResolver() {
+        return storIOSQLite
+                .get()
+                .iterableOfObjects(TestItem.class)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+    }
+
+    @Test
+    public void shouldMapRowsLazilyAndCloseCursorAfterLastRow() {
+        final IterableOfObjects<TestItem> iterable = executeWithExplicitResolver();
+
+        // nothing should be mapped before iteration
+        verify(getResolver, never()).mapFromCursor(cursor);
+
+        final Iterator<TestItem> iterator = iterable.iterator();
+
+        assertTrue(iterator.hasNext());
+        assertEquals(items.get(0), iterator.next());
+        verify(getResolver, times(1)).mapFromCursor(cursor);
+        verify(cursor, never()).close();
+
+        final List<TestItem> rest = new ArrayList<TestItem>();
+
+        while (iterator.hasNext()) {
+            rest.add(iterator.next());
+        }
+
+        assertEquals(items.subList(1, items.size()), rest);
+        verify(getResolver, times(items.size())).mapFromCursor(cursor);
+        verify(cursor).close();
+
+        // should not touch cursor after it was closed
+        assertFalse(iterator.hasNext());
+        verify(cursor, times(items.size() + 1)).moveToNext();
+        verify(cursor, never()).getCount();
+    }
+
+    @Test
+    public void shouldCloseCursorIfIterationWasStoppedEarlier() {
+        final IterableOfObjects<TestItem> iterable = executeWithExplicitResolver();
+
+        for (TestItem testItem : iterable) {
+            assertEquals(items.get(0), testItem);
+            break;
+        }
+
+        verify(cursor, never()).close();
+
+        iterable.close();
+        verify(cursor).close();
+
+        // second close should not close cursor again
+        iterable.close();
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldAllowOnlyOneIteration() {
+        final IterableOfObjects<TestItem> iterable = executeWithExplicitResolver();
+
+        iterable.iterator();
+
+        try {
+            iterable.iterator();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("IterableOfObjects can be iterated only once", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldThrowNoSuchElementExceptionAfterLastRow() {
+        final Iterator<TestItem> iterator = executeWithExplicitResolver().iterator();
+
+        for (int i = 0; i < items.size(); i++) {
+            iterator.next();
+        }
+
+        try {
+            iterator.next();
+            fail();
+        } catch (NoSuchElementException expected) {
+            // it's okay
+        }
+    }
+
+    @Test
+    public void shouldCloseCursorIfMappingFailed() {
+        final IllegalStateException cause = new IllegalStateException("test exception");
+
+        when(getResolver.mapFromCursor(cursor)).thenThrow(cause);
+
+        final Iterator<TestItem> iterator = executeWithExplicitResolver().iterator();
+
+        try {
+            iterator.next();
+            fail();
+        } catch (StorIOException expected) {
+            assertEquals(cause, expected.getCause());
+        }
+
+        verify(cursor).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldUseResolverFromTypeMapping() {
+        final SQLiteTypeMapping<TestItem> typeMapping = mock(SQLiteTypeMapping.class);
+
+        when(internal.typeMapping(TestItem.class))
+                .thenReturn(typeMapping);
+
+        when(typeMapping.getResolver())
+                .thenReturn(getResolver);
+
+        final List<TestItem> actual = new ArrayList<TestItem>();
+
+        for (TestItem testItem : storIOSQLite
+                .get()
+                .iterableOfObjects(TestItem.class)
+                .withQuery(query)
+                .prepare()
+                .executeAsBlocking()) {
+            actual.add(testItem);
+        }
+
+        assertEquals(items, actual);
+        verify(internal).typeMapping(TestItem.class);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldThrowExceptionIfNoTypeMappingWasFound() {
+        try {
+            storIOSQLite
+                    .get()
+                    .iterableOfObjects(TestItem.class)
+                    .withQuery(query)
+                    .prepare()
+                    .executeAsBlocking();
+
+            fail();
+        } catch (StorIOException expected) {
+            TestUtils.checkException(expected, IllegalStateException.class);
+        }
+
+        verify(getResolver, never()).performGet(storIOSQLite, query);
+    }
+
+    @NonNull
+    private PreparedGetIterableOfObjects<TestItem> prepareWithExplicitResolver() {
+        return storIOSQLite
+                .get()
+                .iterableOfObjects(TestItem.class)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare();
+    }
+
+    @Test
+    public void observableOfObjectsShouldEmitAllObjectsAndCloseCursor() {
+        final TestSubscriber<TestItem> testSubscriber = new TestSubscriber<TestItem>();
+
+        prepareWithExplicitResolver()
+                .createObservableOfObjects()
+                .subscribe(testSubscriber);
+
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertReceivedOnNext(items);
+        testSubscriber.assertCompleted();
+
+        verify(cursor).close();
+    }
+
+    @Test
+    public void observableOfObjectsShouldMapOnlyRequestedRows() {
+        final TestSubscriber<TestItem> testSubscriber = new TestSubscriber<TestItem>(1);
+
+        // synchronous subscription without scheduler
+        Observable
+                .create(new OnSubscribeIterableOfObjects<TestItem>(prepareWithExplicitResolver()))
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertReceivedOnNext(items.subList(0, 1));
+        verify(getResolver, times(1)).mapFromCursor(cursor);
+
+        testSubscriber.assertNoTerminalEvent();
+        verify(cursor, never()).close();
+
+        testSubscriber.requestMore(2);
+
+        testSubscriber.assertReceivedOnNext(items);
+        verify(getResolver, times(items.size())).mapFromCursor(cursor);
+        testSubscriber.assertCompleted();
+        verify(cursor).close();
+    }
+
+    @Test
+    public void observableOfObjectsShouldCompleteIfExactlyAllRowsWereRequested() {
+        final TestSubscriber<TestItem> testSubscriber = new TestSubscriber<TestItem>(items.size());
+
+        Observable
+                .create(new OnSubscribeIterableOfObjects<TestItem>(prepareWithExplicitResolver()))
+                .subscribe(testSubscriber);
+
+        // no more requests, completion should not wait for them
+        testSubscriber.assertReceivedOnNext(items);
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertCompleted();
+        verify(cursor).close();
+    }
+
+    @Test
+    public void observableOfObjectsShouldCloseCursorOnUnsubscribe() {
+        final TestSubscriber<TestItem> testSubscriber = new TestSubscriber<TestItem>(1);
+
+        Observable
+                .create(new OnSubscribeIterableOfObjects<TestItem>(prepareWithExplicitResolver()))
+                .subscribe(testSubscriber);
+
+        testSubscriber.unsubscribe();
+        verify(cursor).close();
+
+        testSubscriber.requestMore(2);
+        testSubscriber.assertReceivedOnNext(items.subList(0, 1));
+        verify(getResolver, times(1)).mapFromCursor(cursor);
+    }
+
+    @Test
+    public void observableOfObjectsShouldCloseCursorIfMappingFailed() {
+        when(getResolver.mapFromCursor(cursor)).thenThrow(new IllegalStateException("test exception"));
+
+        final TestSubscriber<TestItem> testSubscriber = new TestSubscriber<TestItem>();
+
+        prepareWithExplicitResolver()
+                .createObservableOfObjects()
+                .subscribe(testSubscriber);
+
+        testSubscriber.awaitTerminalEvent();
+        testSubscriber.assertNoValues();
+        TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
+
+        verify(cursor).close();
+    }
+}
@@ -12,6 +12,8 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.List;
 import java.util.Set;
@@ -19,7 +21,9 @@ import java.util.Set;
 import rx.Observable;
 import rx.observers.TestSubscriber;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
@@ -245,6 +249,7 @@ public class PreparedGetListOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).readScheduler();
             verify(storIOSQLite).get();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -275,6 +280,7 @@ public class PreparedGetListOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).readScheduler();
             verify(storIOSQLite).get();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -283,6 +289,65 @@ public class PreparedGetListOfObjectsTest {
         }
     }
 
+    public static class SkipUnchangedResults {
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldNotEmitResultEqualToPreviousOne() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final GetResolver<TestItem> getResolver = mock(GetResolver.class);
+            final Cursor cursor = mock(Cursor.class);
+
+            final Query query = Query.builder()
+                    .table("test_table")
+                    .build();
+
+            // three changes of the table, only the second one affected rows of the query
+            when(storIOSQLite.observeChangesInTables(eq(singleton("test_table"))))
+                    .thenReturn(Observable.just(
+                            Changes.newInstance("test_table"),
+                            Changes.newInstance("test_table"),
+                            Changes.newInstance("test_table")
+                    ));
+
+            when(getResolver.performGet(storIOSQLite, query))
+                    .thenReturn(cursor);
+
+            when(cursor.getCount())
+                    .thenReturn(1);
+
+            // one row per query
+            when(cursor.moveToNext()).thenAnswer(new Answer<Boolean>() {
+                int invocationsCount = 0;
+
+                @Override
+                public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                    return invocationsCount++ % 2 == 0;
+                }
+            });
+
+            final TestItem item1 = new TestItem();
+            final TestItem item2 = new TestItem();
+
+            // initial result, result of each change
+            when(getResolver.mapFromCursor(cursor))
+                    .thenReturn(item1, item1, item2, item2);
+
+            final TestSubscriber<List<TestItem>> testSubscriber = new TestSubscriber<List<TestItem>>();
+
+            new PreparedGetListOfObjects.CompleteBuilder<TestItem>(storIOSQLite, TestItem.class, query)
+                    .withGetResolver(getResolver)
+                    .skipUnchangedResults(true)
+                    .prepare()
+                    .createObservable()
+                    .subscribe(testSubscriber);
+
+            testSubscriber.awaitTerminalEvent();
+            testSubscriber.assertNoErrors();
+            testSubscriber.assertReceivedOnNext(asList(singletonList(item1), singletonList(item2)));
+        }
+    }
+
     // Because we run tests on this class with Enclosed runner, we need to wrap other tests into class
     public static class OtherTests {
 
@@ -309,7 +374,8 @@ public class PreparedGetListOfObjectsTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false
             );
 
             try {
@@ -329,7 +395,8 @@ public class PreparedGetListOfObjectsTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false
             );
 
             try {
@@ -364,7 +431,8 @@ public class PreparedGetListOfObjectsTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false
                     );
 
             try {
@@ -413,7 +481,8 @@ public class PreparedGetListOfObjectsTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false
                     );
 
             final TestSubscriber<List<Object>> testSubscriber = new TestSubscriber<List<Object>>();
@@ -436,6 +505,7 @@ public class PreparedGetListOfObjectsTest {
             verify(cursor).close();
 
             //noinspection unchecked
+            verify(storIOSQLite).readScheduler();
             verify(storIOSQLite).observeChangesInTables(anySet());
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
             verify(getResolver).mapFromCursor(cursor);
@@ -0,0 +1,151 @@
+package com.pushtorefresh.storio.sqlite.operations.group;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.PreparedOperation;
+import com.pushtorefresh.storio.operations.group.GroupOperationResults;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rx.observers.TestSubscriber;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class PreparedGroupOperationTest {
+
+    private StorIOSQLite storIOSQLite;
+
+    private StorIOSQLite.Internal internal;
+
+    private PreparedOperation<?> operation1;
+
+    private PreparedOperation<?> operation2;
+
+    private Map<PreparedOperation<?>, Object> expectedResults;
+
+    @Before
+    public void beforeEachTest() {
+        storIOSQLite = mock(StorIOSQLite.class);
+        internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal()).thenReturn(internal);
+        when(storIOSQLite.group()).thenReturn(new PreparedGroupOperation.Builder(storIOSQLite));
+
+        operation1 = mock(PreparedOperation.class);
+        operation2 = mock(PreparedOperation.class);
+
+        final Object result1 = new Object();
+        final Object result2 = new Object();
+
+        when(operation1.executeAsBlocking()).thenReturn(result1);
+        when(operation2.executeAsBlocking()).thenReturn(result2);
+
+        expectedResults = new HashMap<PreparedOperation<?>, Object>();
+        expectedResults.put(operation1, result1);
+        expectedResults.put(operation2, result2);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test(expected = NullPointerException.class)
+    public void nullOperations() {
+        new PreparedGroupOperation.Builder(storIOSQLite)
+                .operations((List<PreparedOperation<?>>) null);
+    }
+
+    @Test
+    public void shouldExecuteOperationsInOneTransaction() {
+        final GroupOperationResults results = storIOSQLite
+                .group()
+                .operations(operation1, operation2)
+                .prepare()
+                .executeAsBlocking();
+
+        assertEquals(expectedResults, results.results());
+
+        final InOrder inOrder = inOrder(internal, operation1, operation2);
+        inOrder.verify(internal).beginTransaction();
+        inOrder.verify(operation1).executeAsBlocking();
+        inOrder.verify(operation2).executeAsBlocking();
+        inOrder.verify(internal).setTransactionSuccessful();
+        inOrder.verify(internal).endTransaction();
+
+        verify(storIOSQLite).group();
+        verify(storIOSQLite).internal();
+        verifyNoMoreInteractions(storIOSQLite, internal, operation1, operation2);
+    }
+
+    @Test
+    public void shouldRollbackTransactionIfOperationFailed() {
+        final IllegalStateException cause = new IllegalStateException("test exception");
+        when(operation1.executeAsBlocking()).thenThrow(cause);
+
+        try {
+            storIOSQLite
+                    .group()
+                    .operations(asList(operation1, operation2))
+                    .prepare()
+                    .executeAsBlocking();
+
+            fail();
+        } catch (StorIOException expected) {
+            assertSame(cause, expected.getCause());
+        }
+
+        verify(internal).beginTransaction();
+        verify(internal, never()).setTransactionSuccessful();
+        verify(internal).endTransaction();
+        verify(operation2, never()).executeAsBlocking();
+    }
+
+    @Test
+    public void shouldExecuteOperationsAsObservable() {
+        final TestSubscriber<GroupOperationResults> testSubscriber = new TestSubscriber<GroupOperationResults>();
+
+        storIOSQLite
+                .group()
+                .operations(operation1, operation2)
+                .prepare()
+                .createObservable(null)
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValue(GroupOperationResults.newInstance(expectedResults));
+
+        verify(internal).beginTransaction();
+        verify(internal).setTransactionSuccessful();
+        verify(internal).endTransaction();
+        verify(storIOSQLite, never()).writeScheduler();
+    }
+
+    @Test
+    public void observableShouldUseWriteScheduler() {
+        when(storIOSQLite.writeScheduler()).thenReturn(null);
+
+        final TestSubscriber<GroupOperationResults> testSubscriber = new TestSubscriber<GroupOperationResults>();
+
+        storIOSQLite
+                .group()
+                .operations(operation1, operation2)
+                .prepare()
+                .createObservable()
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertValue(GroupOperationResults.newInstance(expectedResults));
+        verify(storIOSQLite).writeScheduler();
+    }
+}
@@ -2,21 +2,27 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import rx.functions.Func1;
 
+import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
@@ -25,6 +31,7 @@ import static junit.framework.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -223,6 +230,465 @@ public class DefaultPutResolverTest {
         assertNull(putResult.insertedId());
     }
 
+    /**
+     * Verifies behavior of {@link DefaultPutResolver} for "insert" with update-first strategy
+     */
+    @Test
+    public void insertWithUpdateFirstStrategy() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(null); // item without id, should be inserted
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final Long expectedInsertedId = 24L;
+
+        final UpdateQuery expectedUpdateQuery = UpdateQuery.builder()
+                .table(TestItem.TABLE)
+                .where(TestItem.COLUMN_ID + " = ?")
+                .whereArgs(testItem.getId())
+                .build();
+
+        final InsertQuery expectedInsertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .nullColumnHack(null)
+                .build();
+
+        when(internal.update(eq(expectedUpdateQuery), any(ContentValues.class)))
+                .thenReturn(0); // Nothing was updated -> insert should be performed
+
+        when(internal.insert(eq(expectedInsertQuery), any(ContentValues.class)))
+                .thenReturn(expectedInsertedId);
+
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(expectedInsertQuery);
+
+        final ContentValues expectedContentValues = TestItem.MAP_TO_CONTENT_VALUES.call(testItem);
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        verify(internal, times(1)).beginTransaction();
+        verify(internal, times(1)).setTransactionSuccessful();
+        verify(internal, times(1)).endTransaction();
+
+        // db should not be queried
+        verify(internal, never()).query(any(Query.class));
+
+        // update should be tried first
+        verify(internal, times(1)).update(eq(expectedUpdateQuery), eq(expectedContentValues));
+
+        // and then insert should be performed
+        verify(internal, times(1)).insert(eq(expectedInsertQuery), eq(expectedContentValues));
+
+        assertTrue(putResult.wasInserted());
+        assertFalse(putResult.wasUpdated());
+
+        assertEquals(expectedInsertedId, putResult.insertedId());
+        assertNull(putResult.numberOfRowsUpdated());
+    }
+
+    /**
+     * Verifies behavior of {@link DefaultPutResolver} for "update" with update-first strategy
+     */
+    @Test
+    public void updateWithUpdateFirstStrategy() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(1L); // item with some id, should be updated
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final UpdateQuery expectedUpdateQuery = UpdateQuery.builder()
+                .table(TestItem.TABLE)
+                .where(TestItem.COLUMN_ID + " = ?")
+                .whereArgs(testItem.getId())
+                .build();
+
+        final Integer expectedNumberOfRowsUpdated = 1;
+
+        when(internal.update(eq(expectedUpdateQuery), any(ContentValues.class)))
+                .thenReturn(expectedNumberOfRowsUpdated);
+
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(null);
+
+        final ContentValues expectedContentValues = TestItem.MAP_TO_CONTENT_VALUES.call(testItem);
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        verify(internal, times(1)).beginTransaction();
+        verify(internal, times(1)).setTransactionSuccessful();
+        verify(internal, times(1)).endTransaction();
+
+        // db should not be queried
+        verify(internal, never()).query(any(Query.class));
+
+        // only one update should occur
+        verify(internal, times(1)).update(eq(expectedUpdateQuery), eq(expectedContentValues));
+        verify(internal, times(1)).update(any(UpdateQuery.class), any(ContentValues.class));
+
+        // no inserts should occur
+        verify(internal, never()).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        assertFalse(putResult.wasInserted());
+        assertTrue(putResult.wasUpdated());
+
+        assertEquals(expectedNumberOfRowsUpdated, putResult.numberOfRowsUpdated());
+        assertNull(putResult.insertedId());
+    }
+
+    @Test
+    public void shouldNotStartOwnTransactionInsideOfEnclosingTransaction() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(1L);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        when(internal.inTransaction())
+                .thenReturn(true);
+
+        when(internal.update(any(UpdateQuery.class), any(ContentValues.class)))
+                .thenReturn(1);
+
+        final PutResult putResult = new UpdateFirstPutResolver(null).performPut(storIOSQLite, testItem);
+
+        assertTrue(putResult.wasUpdated());
+
+        verify(internal).inTransaction();
+        verify(internal, never()).beginTransaction();
+        verify(internal, never()).setTransactionSuccessful();
+        verify(internal, never()).endTransaction();
+    }
+
+    /**
+     * Verifies behavior of {@link DefaultPutResolver} for bulk insert
+     */
+    @Test
+    public void bulkInsert() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final TestItem testItem1 = new TestItem(null);
+        final TestItem testItem2 = new TestItem(null);
+
+        final InsertQuery expectedInsertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .build();
+
+        final ContentValues contentValues1 = TestItem.MAP_TO_CONTENT_VALUES.call(testItem1);
+        final ContentValues contentValues2 = TestItem.MAP_TO_CONTENT_VALUES.call(testItem2);
+
+        when(internal.insert(eq(expectedInsertQuery), eq(contentValues1)))
+                .thenReturn(1L);
+
+        when(internal.insert(eq(expectedInsertQuery), eq(contentValues2)))
+                .thenReturn(2L);
+
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(expectedInsertQuery);
+
+        final Map<TestItem, PutResult> results = putResolver.performBulkInsert(storIOSQLite, asList(testItem1, testItem2));
+
+        // objects should be just inserted
+        verify(internal, times(2)).insert(any(InsertQuery.class), any(ContentValues.class));
+        verify(internal, never()).query(any(Query.class));
+        verify(internal, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+
+        // transaction is managed by Put Operation
+        verify(internal, never()).beginTransaction();
+
+        assertEquals(2, results.size());
+        assertEquals(PutResult.newInsertResult(1L, TestItem.TABLE), results.get(testItem1));
+        assertEquals(PutResult.newInsertResult(2L, TestItem.TABLE), results.get(testItem2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void bulkInsertShouldBindObjectsToStatementIfInsertColumnsAreDefined() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final TestItem testItem1 = new TestItem(null);
+        final TestItem testItem2 = new TestItem(null);
+
+        final InsertQuery expectedInsertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .build();
+
+        final String[] insertColumns = {TestItem.COLUMN_ID};
+
+        when(internal.insert(eq(expectedInsertQuery), eq(insertColumns), eq(testItem1), any(StatementBinder.class)))
+                .thenReturn(1L);
+
+        when(internal.insert(eq(expectedInsertQuery), eq(insertColumns), eq(testItem2), any(StatementBinder.class)))
+                .thenReturn(2L);
+
+        final List<TestItem> boundItems = new ArrayList<TestItem>();
+
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(expectedInsertQuery) {
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                throw new AssertionError("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected String[] insertColumns() {
+                return insertColumns;
+            }
+
+            @Override
+            protected void bindToInsertStatement(@NonNull SQLiteStatement statement, @NonNull TestItem object) {
+                boundItems.add(object);
+            }
+        };
+
+        final Map<TestItem, PutResult> results = putResolver.performBulkInsert(storIOSQLite, asList(testItem1, testItem2));
+
+        final ArgumentCaptor<StatementBinder> binderCaptor = ArgumentCaptor.forClass(StatementBinder.class);
+        verify(internal, times(2)).insert(eq(expectedInsertQuery), eq(insertColumns), any(TestItem.class), binderCaptor.capture());
+        verify(internal, never()).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        // binder delegates to resolver
+        binderCaptor.getValue().bind(mock(SQLiteStatement.class), testItem2);
+        assertEquals(asList(testItem2), boundItems);
+
+        assertEquals(2, results.size());
+        assertEquals(PutResult.newInsertResult(1L, TestItem.TABLE), results.get(testItem1));
+        assertEquals(PutResult.newInsertResult(2L, TestItem.TABLE), results.get(testItem2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void putOfNewObjectShouldNotMapItToContentValuesIfInsertColumnsAreDefined() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(null); // item without id, should be inserted
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final UpdateQuery expectedUpdateQuery = UpdateQuery.builder()
+                .table(TestItem.TABLE)
+                .where(TestItem.COLUMN_ID + " = ?")
+                .whereArgs(testItem.getId())
+                .build();
+
+        final InsertQuery expectedInsertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .build();
+
+        final String[] insertColumns = {TestItem.COLUMN_ID};
+
+        when(internal.update(eq(expectedUpdateQuery), eq(insertColumns), eq(testItem), any(StatementBinder.class)))
+                .thenReturn(0); // Nothing was updated -> insert should be performed
+
+        when(internal.insert(eq(expectedInsertQuery), eq(insertColumns), eq(testItem), any(StatementBinder.class)))
+                .thenReturn(24L);
+
+        // same as generated resolver
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(expectedInsertQuery) {
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                throw new AssertionError("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected String[] insertColumns() {
+                return insertColumns;
+            }
+
+            @Override
+            protected void bindToInsertStatement(@NonNull SQLiteStatement statement, @NonNull TestItem object) {
+            }
+        };
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        // update should be tried first, then insert should be performed, both with binder
+        verify(internal).update(eq(expectedUpdateQuery), eq(insertColumns), eq(testItem), any(StatementBinder.class));
+        verify(internal).insert(eq(expectedInsertQuery), eq(insertColumns), eq(testItem), any(StatementBinder.class));
+
+        verify(internal, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+        verify(internal, never()).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        assertEquals(PutResult.newInsertResult(24L, TestItem.TABLE), putResult);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void putOfExistingObjectShouldBindItToUpdateStatementIfInsertColumnsAreDefined() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(1L); // item with some id, should be updated
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final String[] insertColumns = {TestItem.COLUMN_ID};
+
+        when(internal.update(any(UpdateQuery.class), eq(insertColumns), eq(testItem), any(StatementBinder.class)))
+                .thenReturn(1);
+
+        final List<TestItem> boundItems = new ArrayList<TestItem>();
+
+        final PutResolver<TestItem> putResolver = new UpdateFirstPutResolver(null) {
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                throw new AssertionError("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected String[] insertColumns() {
+                return insertColumns;
+            }
+
+            @Override
+            protected void bindToInsertStatement(@NonNull SQLiteStatement statement, @NonNull TestItem object) {
+                boundItems.add(object);
+            }
+        };
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        final ArgumentCaptor<StatementBinder> binderCaptor = ArgumentCaptor.forClass(StatementBinder.class);
+        verify(internal).update(any(UpdateQuery.class), eq(insertColumns), eq(testItem), binderCaptor.capture());
+        verify(internal, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+
+        // binder delegates to resolver
+        binderCaptor.getValue().bind(mock(SQLiteStatement.class), testItem);
+        assertEquals(asList(testItem), boundItems);
+
+        assertEquals(PutResult.newUpdateResult(1, TestItem.TABLE), putResult);
+    }
+
+    @Test
+    public void shouldReportKeysOfAffectedRowsIfKeyColumnIsDefined() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final InsertQuery insertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .build();
+
+        final TestItem itemToUpdate = new TestItem(1L);
+        final TestItem itemToInsert = new TestItem(null);
+
+        final ContentValues contentValuesToUpdate = TestItem.MAP_TO_CONTENT_VALUES.call(itemToUpdate);
+        final ContentValues contentValuesToInsert = TestItem.MAP_TO_CONTENT_VALUES.call(itemToInsert);
+
+        when(internal.update(any(UpdateQuery.class), eq(contentValuesToUpdate)))
+                .thenReturn(1);
+
+        when(internal.update(any(UpdateQuery.class), eq(contentValuesToInsert)))
+                .thenReturn(0);
+
+        when(internal.insert(any(InsertQuery.class), any(ContentValues.class)))
+                .thenReturn(42L);
+
+        final PutResolver<TestItem> putResolver = new KeyColumnPutResolver(insertQuery, false);
+
+        assertEquals(
+                PutResult.newUpdateResult(1, AffectedRows.newInstance(TestItem.TABLE, TestItem.COLUMN_ID, "1")),
+                putResolver.performPut(storIOSQLite, itemToUpdate)
+        );
+
+        // object without key, key column is not an alias of ROWID -> key of inserted row is unknown
+        assertEquals(
+                PutResult.newInsertResult(42L, TestItem.TABLE),
+                putResolver.performPut(storIOSQLite, itemToInsert)
+        );
+
+        // object without key, key column is an alias of ROWID -> id of inserted row is used
+        assertEquals(
+                PutResult.newInsertResult(42L, AffectedRows.newInstance(TestItem.TABLE, TestItem.COLUMN_ID, "42")),
+                new KeyColumnPutResolver(insertQuery, true).performPut(storIOSQLite, itemToInsert)
+        );
+    }
+
+    private static class KeyColumnPutResolver extends UpdateFirstPutResolver {
+
+        private final boolean keyColumnIsRowId;
+
+        KeyColumnPutResolver(@Nullable InsertQuery insertQuery, boolean keyColumnIsRowId) {
+            super(insertQuery);
+            this.keyColumnIsRowId = keyColumnIsRowId;
+        }
+
+        @NonNull
+        @Override
+        protected String keyColumn() {
+            return TestItem.COLUMN_ID;
+        }
+
+        @Override
+        protected boolean keyColumnIsRowId() {
+            return keyColumnIsRowId;
+        }
+
+        @Nullable
+        @Override
+        protected Object mapToKey(@NonNull TestItem object) {
+            return object.getId();
+        }
+    }
+
+    private static class UpdateFirstPutResolver extends DefaultPutResolver<TestItem> {
+
+        @Nullable
+        private final InsertQuery insertQuery;
+
+        UpdateFirstPutResolver(@Nullable InsertQuery insertQuery) {
+            this.insertQuery = insertQuery;
+        }
+
+        @Override
+        protected boolean updateFirst() {
+            return true;
+        }
+
+        @NonNull
+        @Override
+        protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+            if (insertQuery == null) {
+                fail("Should not be called");
+            }
+
+            return insertQuery;
+        }
+
+        @NonNull
+        @Override
+        protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+            return UpdateQuery.builder()
+                    .table(TestItem.TABLE)
+                    .where(TestItem.COLUMN_ID + " = ?")
+                    .whereArgs(object.getId())
+                    .build();
+        }
+
+        @NonNull
+        @Override
+        protected ContentValues mapToContentValues(@NonNull TestItem object) {
+            return TestItem.MAP_TO_CONTENT_VALUES.call(object);
+        }
+    }
+
     private static class TestItem {
 
         final static String TABLE = "someTable";
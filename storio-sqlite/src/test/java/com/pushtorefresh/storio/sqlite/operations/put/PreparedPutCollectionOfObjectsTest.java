@@ -3,7 +3,11 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 import android.content.ContentValues;
 
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
 import com.pushtorefresh.storio.sqlite.TestUtils;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
@@ -12,17 +16,22 @@ import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import rx.Observable;
 import rx.observers.TestSubscriber;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -223,6 +232,7 @@ public class PreparedPutCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).put();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -289,6 +299,7 @@ public class PreparedPutCollectionOfObjectsTest {
             testSubscriber.assertNoValues();
             TestUtils.checkException(testSubscriber, StorIOException.class, IllegalStateException.class);
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).put();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(TestItem.class);
@@ -298,6 +309,84 @@ public class PreparedPutCollectionOfObjectsTest {
         }
     }
 
+    public static class BulkInsert {
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldPassObjectsOfSameTypeToOneBulkInsertWithTransaction() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final PutResolver<TestItem> putResolver = mock(PutResolver.class);
+
+            when(internal.typeMapping(TestItem.class)).thenReturn(SQLiteTypeMapping.<TestItem>builder()
+                    .putResolver(putResolver)
+                    .getResolver(mock(GetResolver.class))
+                    .deleteResolver(mock(DeleteResolver.class))
+                    .build());
+
+            final List<TestItem> items = asList(TestItem.newInstance(), TestItem.newInstance());
+
+            final Map<TestItem, PutResult> results = new HashMap<TestItem, PutResult>();
+            results.put(items.get(0), PutResult.newInsertResult(1, TestItem.TABLE));
+            results.put(items.get(1), PutResult.newInsertResult(2, TestItem.TABLE));
+
+            when(putResolver.performBulkInsert(same(storIOSQLite), any(Collection.class)))
+                    .thenReturn(results);
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOSQLite, items)
+                    .useBulkInsert(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertEquals(2, putResults.numberOfInserts());
+            assertEquals(results, putResults.results());
+
+            verify(putResolver).performBulkInsert(same(storIOSQLite), eq(items));
+            verify(putResolver, never()).performPut(same(storIOSQLite), any(TestItem.class));
+
+            verify(internal).beginTransaction();
+            verify(internal).setTransactionSuccessful();
+            verify(internal).endTransaction();
+
+            // Only one notification after the transaction
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldNotifyAfterBulkInsertWithoutTransaction() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final PutResolver<TestItem> putResolver = mock(PutResolver.class);
+
+            final List<TestItem> items = asList(TestItem.newInstance(), TestItem.newInstance());
+
+            when(putResolver.performBulkInsert(same(storIOSQLite), any(Collection.class)))
+                    .thenReturn(singletonMap(items.get(0), PutResult.newInsertResult(1, TestItem.TABLE)));
+
+            new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOSQLite, items)
+                    .withPutResolver(putResolver)
+                    .useTransaction(false)
+                    .useBulkInsert(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            verify(putResolver).performBulkInsert(same(storIOSQLite), eq(items));
+
+            verify(internal, never()).beginTransaction();
+            verify(internal, never()).setTransactionSuccessful();
+            verify(internal, never()).endTransaction();
+
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+        }
+    }
+
     public static class OtherTests {
 
         @Test
@@ -374,6 +463,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(internal, never()).setTransactionSuccessful();
             verify(internal).endTransaction();
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).internal();
             verify(putResolver).performPut(same(storIOSQLite), anyObject());
             verifyNoMoreInteractions(storIOSQLite, internal, putResolver);
@@ -456,6 +546,7 @@ public class PreparedPutCollectionOfObjectsTest {
             verify(internal, never()).setTransactionSuccessful();
             verify(internal, never()).endTransaction();
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).internal();
             verify(putResolver).performPut(same(storIOSQLite), anyObject());
             verifyNoMoreInteractions(storIOSQLite, internal, putResolver);
@@ -161,6 +161,7 @@ public class PreparedPutContentValuesIterableTest {
         verify(internal, never()).setTransactionSuccessful();
         verify(internal).endTransaction();
 
+        verify(storIOSQLite).writeScheduler();
         verify(storIOSQLite).internal();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, internal, putResolver);
@@ -235,6 +236,7 @@ public class PreparedPutContentValuesIterableTest {
         // Main check of this test
         verify(internal, never()).endTransaction();
 
+        verify(storIOSQLite).writeScheduler();
         verify(storIOSQLite).internal();
         verify(putResolver).performPut(same(storIOSQLite), any(ContentValues.class));
         verifyNoMoreInteractions(storIOSQLite, internal, putResolver);
@@ -142,6 +142,7 @@ public class PreparedPutObjectTest {
                     cause.getMessage()
             );
 
+            verify(storIOSQLite).writeScheduler();
             verify(storIOSQLite).internal();
             verify(internal).typeMapping(Object.class);
             verifyNoMoreInteractions(storIOSQLite, internal);
@@ -95,6 +95,7 @@ class PutContentValuesStub {
                 .testAction(new Action1<PutResults<ContentValues>>() {
                     @Override
                     public void call(PutResults<ContentValues> putResults) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForMultipleContentValues(putResults);
                     }
                 })
@@ -112,6 +113,7 @@ class PutContentValuesStub {
                 .testAction(new Action1<PutResult>() {
                     @Override
                     public void call(PutResult putResult) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForOneContentValues(putResult);
                     }
                 })
@@ -167,6 +167,7 @@ class PutObjectsStub {
                 .testAction(new Action1<PutResults<TestItem>>() {
                     @Override
                     public void call(PutResults<TestItem> testItemPutResults) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForMultipleObjects(testItemPutResults);
                     }
                 })
@@ -184,6 +185,7 @@ class PutObjectsStub {
                 .testAction(new Action1<PutResult>() {
                     @Override
                     public void call(PutResult putResult) {
+                        verify(storIOSQLite).writeScheduler();
                         verifyBehaviorForOneObject(putResult);
                     }
                 })
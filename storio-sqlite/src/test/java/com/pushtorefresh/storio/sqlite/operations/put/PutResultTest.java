@@ -2,6 +2,7 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 
 import android.support.annotation.NonNull;
 
+import com.pushtorefresh.storio.sqlite.AffectedRows;
 import com.pushtorefresh.storio.test.ToStringChecker;
 
 import org.junit.Test;
@@ -47,6 +48,25 @@ public class PutResultTest {
         );
     }
 
+    @Test
+    public void createInsertResultWithAffectedRows() {
+        final AffectedRows affectedRows = AffectedRows.newInstance("table", "_id", "10");
+        final PutResult insertResult = PutResult.newInsertResult(10, affectedRows);
+
+        checkCreateInsertResult(10, singleton("table"), insertResult);
+        assertEquals(affectedRows, insertResult.affectedRows());
+    }
+
+    @Test
+    public void createUpdateResultWithAffectedRows() {
+        final AffectedRows affectedRows = AffectedRows.newInstance("table", "_id", "10");
+        final PutResult updateResult = PutResult.newUpdateResult(1, affectedRows);
+
+        assertTrue(updateResult.wasUpdated());
+        assertEquals(singleton("table"), updateResult.affectedTables());
+        assertEquals(affectedRows, updateResult.affectedRows());
+    }
+
     @Test
     public void createInsertResultWithOneAffectedTables() {
         final int insertedId = 10;
@@ -212,6 +232,7 @@ public class PutResultTest {
     public void checkToStringImplementation() {
         ToStringChecker
                 .forClass(PutResult.class)
+                .sampleValue(AffectedRows.class, AffectedRows.newInstance("table", "_id", "1"))
                 .check();
     }
 }
@@ -7,6 +7,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,8 +24,16 @@ public class ToStringChecker<T> {
     @NonNull
     private final Class<T> clazz;
 
+    @NonNull
+    private final Map<Class<?>, Object> sampleValues;
+
     ToStringChecker(@NonNull Class<T> clazz) {
+        this(clazz, Collections.<Class<?>, Object>emptyMap());
+    }
+
+    ToStringChecker(@NonNull Class<T> clazz, @NonNull Map<Class<?>, Object> sampleValues) {
         this.clazz = clazz;
+        this.sampleValues = sampleValues;
     }
 
     public static <T> ToStringChecker.Builder<T> forClass(@NonNull Class<T> clazz) {
@@ -35,12 +45,24 @@ public class ToStringChecker<T> {
         @NonNull
         private final Class<T> clazz;
 
+        @NonNull
+        private final Map<Class<?>, Object> sampleValues = new HashMap<Class<?>, Object>();
+
         Builder(@NonNull Class<T> clazz) {
             this.clazz = clazz;
         }
 
+        /**
+         * Specifies sample value for fields of type that can not be created by the checker.
+         */
+        @NonNull
+        public <V> Builder<T> sampleValue(@NonNull Class<V> type, @NonNull V value) {
+            sampleValues.put(type, value);
+            return this;
+        }
+
         public void check() {
-            new ToStringChecker<T>(clazz).check();
+            new ToStringChecker<T>(clazz, sampleValues).check();
         }
     }
 
@@ -126,7 +148,9 @@ public class ToStringChecker<T> {
 
     @NonNull
     Object createSampleValueOfType(@NonNull Class<?> type) {
-        if (type.equals(Boolean.class) || type.equals(boolean.class)) {
+        if (sampleValues.containsKey(type)) {
+            return sampleValues.get(type);
+        } else if (type.equals(Boolean.class) || type.equals(boolean.class)) {
             return true;
         } else if (type.equals(Integer.class) || type.equals(int.class)) {
             return 1;